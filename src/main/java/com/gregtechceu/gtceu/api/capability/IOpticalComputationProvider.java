@@ -1,8 +1,8 @@
 package com.gregtechceu.gtceu.api.capability;
 
+import it.unimi.dsi.fastutil.objects.ReferenceOpenHashSet;
 import org.jetbrains.annotations.NotNull;
 
-import java.util.ArrayList;
 import java.util.Collection;
 
 /**
@@ -19,7 +19,7 @@ public interface IOpticalComputationProvider {
      * @return The amount of CWU/t that could be supplied.
      */
     default int requestCWUt(int cwut, boolean simulate) {
-        Collection<IOpticalComputationProvider> list = new ArrayList<>();
+        Collection<IOpticalComputationProvider> list = new ReferenceOpenHashSet<>();
         list.add(this);
         return requestCWUt(cwut, simulate, list);
     }
@@ -29,7 +29,7 @@ public interface IOpticalComputationProvider {
      * Implementors should expect these requests to occur each tick that computation is required.
      *
      * @param cwut Maximum amount of CWU/t requested.
-     * @param seen The Optical Computation Providers already checked
+     * @param seen The Optical Computation Providers already checked, compared by identity
      * @return The amount of CWU/t that could be supplied.
      */
     int requestCWUt(int cwut, boolean simulate, @NotNull Collection<IOpticalComputationProvider> seen);
@@ -38,7 +38,7 @@ public interface IOpticalComputationProvider {
      * The maximum of CWU/t that this computation provider can provide.
      */
     default int getMaxCWUt() {
-        Collection<IOpticalComputationProvider> list = new ArrayList<>();
+        Collection<IOpticalComputationProvider> list = new ReferenceOpenHashSet<>();
         list.add(this);
         return getMaxCWUt(list);
     }
@@ -55,7 +55,7 @@ public interface IOpticalComputationProvider {
      * Checked by machines like the Network Switch.
      */
     default boolean canBridge() {
-        Collection<IOpticalComputationProvider> list = new ArrayList<>();
+        Collection<IOpticalComputationProvider> list = new ReferenceOpenHashSet<>();
         list.add(this);
         return canBridge(list);
     }
@@ -1,6 +1,7 @@
 package com.gregtechceu.gtceu.api.capability.recipe;
 
 import com.gregtechceu.gtceu.api.gui.widget.SlotWidget;
+import com.gregtechceu.gtceu.api.machine.trait.ItemCountIndex;
 import com.gregtechceu.gtceu.api.machine.trait.RecipeHandlerGroup;
 import com.gregtechceu.gtceu.api.machine.trait.RecipeHandlerGroupDistinctness;
 import com.gregtechceu.gtceu.api.machine.trait.RecipeHandlerList;
@@ -205,8 +206,8 @@ public class ItemRecipeCapability extends RecipeCapability<Ingredient> {
         var inputs = (tick ? recipe.tickInputs : recipe.inputs).get(this);
         if (inputs == null || inputs.isEmpty()) return limit;
 
-        // Find all the items in the combined Item Input inventories and create oversized ItemStacks
-        List<Object2LongMap<ItemStack>> inventoryGroups = getInputContents(holder);
+        // Find all the items in the combined Item Input inventories
+        List<ItemCountIndex> inventoryGroups = getInputContents(holder);
         if (inventoryGroups.isEmpty()) return 0;
 
         // map the recipe ingredients to account for duplicated and notConsumable ingredients.
@@ -226,12 +227,14 @@ public class ItemRecipeCapability extends RecipeCapability<Ingredient> {
                 nonConsumables.addTo(ing, count);
             } else {
                 boolean has = false;
-                for (var recipeIng : consumables.object2LongEntrySet()) {
+                if (!consumables.isEmpty()) {
                     var stack = ing.getItems()[0];
-                    if (recipeIng.getKey().test(stack)) {
-                        recipeIng.setValue(recipeIng.getLongValue() + stack.getCount());
-                        has = true;
-                        break;
+                    for (var recipeIng : consumables.object2LongEntrySet()) {
+                        if (recipeIng.getKey().test(stack)) {
+                            recipeIng.setValue(recipeIng.getLongValue() + stack.getCount());
+                            has = true;
+                            break;
+                        }
                     }
                 }
                 if (!has) {
@@ -243,21 +246,23 @@ public class ItemRecipeCapability extends RecipeCapability<Ingredient> {
         // is this even possible
         if (consumables.isEmpty() && nonConsumables.isEmpty()) return limit;
 
+        final var strat = ItemStackHashStrategy.comparingAllButCount();
         int maxMultiplier = 0;
         // Check every inventory group
         for (var group : inventoryGroups) {
-            // Check for enough NC in inventory group
+            // Check for enough NC in inventory group, the groups are shared so reserve the NC separately
+            Object2LongOpenCustomHashMap<ItemStack> reserved = null;
             boolean satisfied = true;
             for (var ncEntry : Object2LongMaps.fastIterable(nonConsumables)) {
                 Ingredient ingredient = ncEntry.getKey();
                 long needed = ncEntry.getLongValue();
-                for (var stackEntry : Object2LongMaps.fastIterable(group)) {
-                    if (ingredient.test(stackEntry.getKey())) {
-                        long count = stackEntry.getLongValue();
+                for (ItemStack stack : group.getCandidates(ingredient)) {
+                    if (ingredient.test(stack)) {
+                        if (reserved == null) reserved = new Object2LongOpenCustomHashMap<>(strat);
+                        long count = group.getCount(stack) - reserved.getLong(stack);
                         long lesser = Math.min(needed, count);
-                        count -= lesser;
                         needed -= lesser;
-                        stackEntry.setValue(count);
+                        reserved.addTo(stack, lesser);
                         if (needed == 0) break;
                     }
                 }
@@ -278,10 +283,11 @@ public class ItemRecipeCapability extends RecipeCapability<Ingredient> {
                 final long needed = cEntry.getLongValue();
                 final long maxNeeded = needed * limit;
                 long available = 0;
-                // Search stacks in our inventory group, summing them up
-                for (var stackEntry : Object2LongMaps.fastIterable(group)) {
-                    if (ingredient.test(stackEntry.getKey())) {
-                        available += stackEntry.getLongValue();
+                // Search the matching stacks in our inventory group, summing them up
+                for (ItemStack stack : group.getCandidates(ingredient)) {
+                    if (ingredient.test(stack)) {
+                        available += group.getCount(stack);
+                        if (reserved != null) available -= reserved.getLong(stack);
                         // We can stop if we already have enough for max parallel
                         if (available >= maxNeeded) break;
                     }
@@ -300,7 +306,7 @@ public class ItemRecipeCapability extends RecipeCapability<Ingredient> {
         return maxMultiplier;
     }
 
-    private static List<Object2LongMap<ItemStack>> getInputContents(IRecipeCapabilityHolder holder) {
+    private static List<ItemCountIndex> getInputContents(IRecipeCapabilityHolder holder) {
         var handlerLists = holder.getCapabilitiesForIO(IO.IN);
         if (handlerLists.isEmpty()) return Collections.emptyList();
 
@@ -310,24 +316,13 @@ public class ItemRecipeCapability extends RecipeCapability<Ingredient> {
             addToRecipeHandlerMap(handler.getGroup(), handler, handlerGroups);
         }
 
-        final var strat = ItemStackHashStrategy.comparingAllButCount();
-
         List<RecipeHandlerList> distinctHandlerLists = handlerGroups.getOrDefault(
                 RecipeHandlerGroupDistinctness.BUS_DISTINCT,
                 Collections.emptyList());
-        List<Object2LongMap<ItemStack>> invs = new ArrayList<>(distinctHandlerLists.size() + 1);
+        List<ItemCountIndex> invs = new ArrayList<>(distinctHandlerLists.size() + 1);
         // Handle distinct groups first, adding an inventory based on their contents individually.
         for (RecipeHandlerList handlerList : distinctHandlerLists) {
-            var handlers = handlerList.getCapability(ItemRecipeCapability.CAP);
-            Object2LongOpenCustomHashMap<ItemStack> distinctInv = new Object2LongOpenCustomHashMap<>(strat);
-
-            for (IRecipeHandler<?> handler : handlers) {
-                for (var content : handler.getContents()) {
-                    if (content instanceof ItemStack stack && !stack.isEmpty()) {
-                        distinctInv.addTo(stack, stack.getCount());
-                    }
-                }
-            }
+            var distinctInv = handlerList.getItemCountIndex();
             if (!distinctInv.isEmpty()) invs.add(distinctInv);
         }
 
@@ -336,15 +331,14 @@ public class ItemRecipeCapability extends RecipeCapability<Ingredient> {
         for (Map.Entry<RecipeHandlerGroup, List<RecipeHandlerList>> handlerListEntry : handlerGroups.entrySet()) {
             if (handlerListEntry.getKey() == RecipeHandlerGroupDistinctness.BUS_DISTINCT) continue;
 
-            Object2LongOpenCustomHashMap<ItemStack> inventory = new Object2LongOpenCustomHashMap<>(strat);
-            for (RecipeHandlerList handlerList : handlerListEntry.getValue()) {
-                var handlers = handlerList.getCapability(ItemRecipeCapability.CAP);
-                for (var handler : handlers) {
-                    for (var content : handler.getContents()) {
-                        if (content instanceof ItemStack stack && !stack.isEmpty()) {
-                            inventory.addTo(stack, stack.getCount());
-                        }
-                    }
+            var handlerListsInGroup = handlerListEntry.getValue();
+            ItemCountIndex inventory;
+            if (handlerListsInGroup.size() == 1) {
+                inventory = handlerListsInGroup.get(0).getItemCountIndex();
+            } else {
+                inventory = new ItemCountIndex();
+                for (RecipeHandlerList handlerList : handlerListsInGroup) {
+                    inventory.addAll(handlerList.getItemCountIndex());
                 }
             }
             if (!inventory.isEmpty()) invs.add(inventory);
@@ -0,0 +1,133 @@
+package com.gregtechceu.gtceu.api.data.chemical;
+
+import com.gregtechceu.gtceu.api.GTCEuAPI;
+import com.gregtechceu.gtceu.api.data.chemical.material.ItemMaterialData;
+import com.gregtechceu.gtceu.api.data.chemical.material.Material;
+import com.gregtechceu.gtceu.api.data.chemical.material.stack.MaterialEntry;
+import com.gregtechceu.gtceu.api.data.tag.TagPrefix;
+
+import net.minecraft.core.registries.BuiltInRegistries;
+import net.minecraft.tags.TagKey;
+import net.minecraft.world.item.Item;
+
+import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ObjectOpenHashSet;
+import it.unimi.dsi.fastutil.objects.Reference2ObjectOpenHashMap;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * A frozen snapshot of which {@link MaterialEntry} every item and item tag unifies to.
+ * <p>
+ * The index is built from the entries registered in {@link ItemMaterialData} and the bound item tags, and never
+ * changes afterwards, so it can be read from any thread without locking.
+ * Registering an entry discards it, and it is built again on the next lookup. Reloading tags replaces it at once, so
+ * readers either see the old or the new index.
+ */
+public final class UnificationIndex {
+
+    @Nullable
+    private static volatile UnificationIndex current;
+
+    private final Reference2ObjectOpenHashMap<Item, MaterialEntry> itemEntries = new Reference2ObjectOpenHashMap<>();
+    private final Object2ObjectOpenHashMap<TagKey<Item>, MaterialEntry> tagEntries;
+
+    private UnificationIndex() {
+        itemEntries.defaultReturnValue(MaterialEntry.NULL_ENTRY);
+        tagEntries = new Object2ObjectOpenHashMap<>(ItemMaterialData.TAG_MATERIAL_ENTRY);
+        tagEntries.defaultReturnValue(MaterialEntry.NULL_ENTRY);
+
+        // if no tag entries are registered, resolve the tags of all materials which are bound to items instead
+        if (tagEntries.isEmpty()) {
+            Set<TagKey<Item>> allItemTags = BuiltInRegistries.ITEM.getTagNames()
+                    .collect(Collectors.toCollection(ObjectOpenHashSet::new));
+            for (TagPrefix prefix : TagPrefix.values()) {
+                for (Material material : GTCEuAPI.materialManager.getRegisteredMaterials()) {
+                    for (TagKey<Item> tag : prefix.getItemTags(material)) {
+                        // remove the tag so that only the first prefix and material get it
+                        if (allItemTags.remove(tag)) {
+                            tagEntries.put(tag, new MaterialEntry(prefix, material));
+                        }
+                    }
+                }
+            }
+        }
+
+        for (var entry : ItemMaterialData.ITEM_MATERIAL_ENTRY) {
+            itemEntries.put(entry.getFirst().get().asItem(), entry.getSecond());
+        }
+
+        // guess an entry based on the item's tags if none are registered
+        for (Item item : BuiltInRegistries.ITEM) {
+            if (itemEntries.containsKey(item)) continue;
+            var tags = item.builtInRegistryHolder().tags().iterator();
+            while (tags.hasNext()) {
+                TagKey<Item> tag = tags.next();
+                MaterialEntry materialEntry = tagEntries.get(tag);
+                // check that it's not the empty marker and that it's not a parent tag
+                if (!materialEntry.isEmpty() && !isParentTag(materialEntry.tagPrefix(), tag)) {
+                    itemEntries.put(item, materialEntry);
+                    break;
+                }
+            }
+        }
+        itemEntries.trim();
+        tagEntries.trim();
+    }
+
+    private static boolean isParentTag(TagPrefix prefix, TagKey<Item> tag) {
+        for (TagKey<Item> parentTag : prefix.getItemParentTags()) {
+            if (parentTag.equals(tag)) return true;
+        }
+        return false;
+    }
+
+    public static UnificationIndex get() {
+        UnificationIndex index = current;
+        if (index == null) {
+            synchronized (UnificationIndex.class) {
+                index = current;
+                if (index == null) {
+                    current = index = new UnificationIndex();
+                }
+            }
+        }
+        return index;
+    }
+
+    /**
+     * Discards the index, so it is built again with the current entries on the next lookup.
+     */
+    @ApiStatus.Internal
+    public static synchronized void invalidate() {
+        current = null;
+    }
+
+    /**
+     * Builds the index again and replaces the current one, used when the bound tags changed.
+     */
+    @ApiStatus.Internal
+    public static synchronized void rebuild() {
+        current = new UnificationIndex();
+    }
+
+    /**
+     * @return the entries of all items which unify to one
+     */
+    public Map<Item, MaterialEntry> getItemEntries() {
+        return Collections.unmodifiableMap(itemEntries);
+    }
+
+    public MaterialEntry getEntry(Item item) {
+        return itemEntries.get(item);
+    }
+
+    public MaterialEntry getEntry(TagKey<Item> tag) {
+        return tagEntries.get(tag);
+    }
+}
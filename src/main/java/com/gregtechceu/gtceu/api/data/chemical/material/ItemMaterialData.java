@@ -1,5 +1,6 @@
 package com.gregtechceu.gtceu.api.data.chemical.material;
 
+import com.gregtechceu.gtceu.api.data.chemical.UnificationIndex;
 import com.gregtechceu.gtceu.api.data.chemical.material.stack.ItemMaterialInfo;
 import com.gregtechceu.gtceu.api.data.chemical.material.stack.MaterialEntry;
 import com.gregtechceu.gtceu.api.data.chemical.material.stack.MaterialStack;
@@ -43,8 +44,30 @@ public class ItemMaterialData {
     public static final Map<Item, ItemMaterialInfo> ITEM_MATERIAL_INFO = new Object2ObjectOpenHashMap<>();
     /** Mapping of an item to a "prefix, material" pair */
     public static final List<Pair<Supplier<? extends Item>, MaterialEntry>> ITEM_MATERIAL_ENTRY = new ArrayList<>();
-    public static final Map<Item, MaterialEntry> ITEM_MATERIAL_ENTRY_COLLECTED = new Object2ObjectOpenHashMap<>();
-    /** Mapping of a tag to a "prefix, material" pair */
+    /**
+     * @deprecated A read-only view of {@link UnificationIndex#getItemEntries()}, use
+     *             {@link com.gregtechceu.gtceu.api.data.chemical.ChemicalHelper#getMaterialEntry(ItemLike)} instead.
+     */
+    @ApiStatus.ScheduledForRemoval(inVersion = "8.0.0")
+    @Deprecated(forRemoval = true)
+    public static final Map<Item, MaterialEntry> ITEM_MATERIAL_ENTRY_COLLECTED = new AbstractMap<>() {
+
+        @Override
+        public Set<Entry<Item, MaterialEntry>> entrySet() {
+            return UnificationIndex.get().getItemEntries().entrySet();
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            return UnificationIndex.get().getItemEntries().containsKey(key);
+        }
+
+        @Override
+        public MaterialEntry get(Object key) {
+            return key instanceof Item item ? UnificationIndex.get().getEntry(item) : null;
+        }
+    };
+    /** Mapping of a tag to a "prefix, material" pair of the registered entries */
     public static final Map<TagKey<Item>, MaterialEntry> TAG_MATERIAL_ENTRY = new Object2ObjectLinkedOpenHashMap<>();
     /** Mapping of a fluid to a material */
     public static final Map<Fluid, Material> FLUID_MATERIAL = new Object2ObjectOpenHashMap<>();
@@ -83,6 +106,7 @@ public class ItemMaterialData {
         if (blockSupplier != null) {
             registerBlockEntry(blockSupplier, materialEntry);
         }
+        UnificationIndex.invalidate();
     }
 
     /**
@@ -159,6 +183,7 @@ public class ItemMaterialData {
         MATERIAL_ENTRY_BLOCK_MAP.clear();
         ITEM_MATERIAL_ENTRY.clear();
         FLUID_MATERIAL.clear();
+        UnificationIndex.invalidate();
 
         // Load new data
         TagsHandler.initExtraUnificationEntries();
@@ -12,13 +12,11 @@ import net.minecraft.world.level.chunk.ChunkGenerator;
 import com.google.common.cache.Cache;
 import com.google.common.cache.CacheBuilder;
 import lombok.Getter;
-import org.apache.commons.lang3.mutable.MutableInt;
 
+import java.util.ArrayList;
 import java.util.List;
-import java.util.Objects;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
-import java.util.stream.Stream;
 
 import javax.annotation.ParametersAreNonnullByDefault;
 
@@ -27,6 +25,11 @@ import javax.annotation.ParametersAreNonnullByDefault;
  * 
  * <p>
  * Uses the {@link OreGenerator} to generate new veins in case no vein is cached for a queried chunk.
+ * 
+ * <p>
+ * The caches are keyed by {@link ChunkPos#asLong(int, int)} and striped for all worldgen threads. Concurrent queries
+ * for the same origin wait for the single generation already in flight instead of generating the origin again.
+ * Cache hits only box the key, the origin's {@link ChunkPos} is only created when it has to be generated.
  */
 @MethodsReturnNonnullByDefault
 @ParametersAreNonnullByDefault
@@ -43,19 +46,24 @@ public class OreGenCache {
 
     private final int veinMetadataCacheSize = Math.max(oreGenerationCacheSize, oreIndicatorCacheSize);
 
-    private final Cache<ChunkPos, List<GeneratedVeinMetadata>> veinMetadataByOrigin = CacheBuilder.newBuilder()
+    private static final int CONCURRENCY_LEVEL = Runtime.getRuntime().availableProcessors();
+
+    private final Cache<Long, List<GeneratedVeinMetadata>> veinMetadataByOrigin = CacheBuilder.newBuilder()
+            .concurrencyLevel(CONCURRENCY_LEVEL)
             .maximumSize(veinMetadataCacheSize)
             .expireAfterAccess(30, TimeUnit.SECONDS)
             .softValues()
             .build();
 
-    private final Cache<ChunkPos, List<GeneratedVein>> generatedVeinsByOrigin = CacheBuilder.newBuilder()
+    private final Cache<Long, List<GeneratedVein>> generatedVeinsByOrigin = CacheBuilder.newBuilder()
+            .concurrencyLevel(CONCURRENCY_LEVEL)
             .maximumSize(oreGenerationCacheSize)
             .expireAfterAccess(30, TimeUnit.SECONDS)
             .softValues()
             .build();
 
-    private final Cache<ChunkPos, List<GeneratedIndicators>> indicatorsByOrigin = CacheBuilder.newBuilder()
+    private final Cache<Long, List<GeneratedIndicators>> indicatorsByOrigin = CacheBuilder.newBuilder()
+            .concurrencyLevel(CONCURRENCY_LEVEL)
             .maximumSize(oreIndicatorCacheSize)
             .expireAfterAccess(30, TimeUnit.SECONDS)
             .softValues()
@@ -65,7 +73,7 @@ public class OreGenCache {
                                                                 ChunkPos chunkPos) {
         try {
             return veinMetadataByOrigin
-                    .get(chunkPos, () -> oreGenerator.generateMetadata(level, generator, chunkPos));
+                    .get(chunkPos.toLong(), () -> oreGenerator.generateMetadata(level, generator, chunkPos));
         } catch (ExecutionException e) {
             GTCEu.LOGGER.error("Cannot create vein position in chunk {}", chunkPos, e);
             return List.of();
@@ -79,18 +87,29 @@ public class OreGenCache {
      * The search radius depends on the largest registered vein size, as well as the relevant config options.
      */
     public List<GeneratedVein> consumeChunkVeins(WorldGenLevel level, ChunkGenerator generator, ChunkAccess chunk) {
-        return getSurroundingChunks(chunk.getPos(), OreVeinUtil.getMaxVeinSearchDistance()).flatMap(chunkPos -> {
-            try {
-                return generatedVeinsByOrigin
-                        .get(chunkPos,
-                                () -> oreGenerator.generateOres(level,
-                                        getOrCreateVeinMetadata(level, generator, chunkPos), chunkPos))
-                        .stream();
-            } catch (ExecutionException e) {
-                GTCEu.LOGGER.error("Cannot create vein in chunk {}", chunkPos, e);
-                return Stream.empty();
+        List<GeneratedVein> veins = new ArrayList<>();
+        ChunkPos center = chunk.getPos();
+        int searchDistance = OreVeinUtil.getMaxVeinSearchDistance();
+        for (int z = center.z - searchDistance; z <= center.z + searchDistance; z++) {
+            for (int x = center.x - searchDistance; x <= center.x + searchDistance; x++) {
+                Long origin = ChunkPos.asLong(x, z);
+                List<GeneratedVein> originVeins = generatedVeinsByOrigin.getIfPresent(origin);
+                if (originVeins == null) {
+                    try {
+                        originVeins = generatedVeinsByOrigin.get(origin, () -> {
+                            ChunkPos chunkPos = new ChunkPos(origin);
+                            return oreGenerator.generateOres(level,
+                                    getOrCreateVeinMetadata(level, generator, chunkPos), chunkPos);
+                        });
+                    } catch (ExecutionException e) {
+                        GTCEu.LOGGER.error("Cannot create vein in chunk {}", new ChunkPos(origin), e);
+                        continue;
+                    }
+                }
+                addNonNull(veins, originVeins);
             }
-        }).filter(Objects::nonNull).toList();
+        }
+        return veins;
     }
 
     /**
@@ -101,41 +120,34 @@ public class OreGenCache {
      */
     public List<GeneratedIndicators> consumeChunkIndicators(WorldGenLevel level, ChunkGenerator generator,
                                                             ChunkAccess chunk) {
-        return getSurroundingChunks(chunk.getPos(), OreVeinUtil.getMaxIndicatorSearchDistance()).flatMap(chunkPos -> {
-            try {
-                return indicatorsByOrigin
-                        .get(chunkPos,
-                                () -> oreGenerator.generateIndicators(level,
-                                        getOrCreateVeinMetadata(level, generator, chunkPos), chunkPos))
-                        .stream();
-            } catch (ExecutionException e) {
-                GTCEu.LOGGER.error("Cannot create vein in chunk {}", chunkPos, e);
-                return Stream.empty();
+        List<GeneratedIndicators> indicators = new ArrayList<>();
+        ChunkPos center = chunk.getPos();
+        int searchDistance = OreVeinUtil.getMaxIndicatorSearchDistance();
+        for (int z = center.z - searchDistance; z <= center.z + searchDistance; z++) {
+            for (int x = center.x - searchDistance; x <= center.x + searchDistance; x++) {
+                Long origin = ChunkPos.asLong(x, z);
+                List<GeneratedIndicators> originIndicators = indicatorsByOrigin.getIfPresent(origin);
+                if (originIndicators == null) {
+                    try {
+                        originIndicators = indicatorsByOrigin.get(origin, () -> {
+                            ChunkPos chunkPos = new ChunkPos(origin);
+                            return oreGenerator.generateIndicators(level,
+                                    getOrCreateVeinMetadata(level, generator, chunkPos), chunkPos);
+                        });
+                    } catch (ExecutionException e) {
+                        GTCEu.LOGGER.error("Cannot create vein in chunk {}", new ChunkPos(origin), e);
+                        continue;
+                    }
+                }
+                addNonNull(indicators, originIndicators);
             }
-        }).filter(Objects::nonNull).toList();
+        }
+        return indicators;
     }
 
-    private Stream<ChunkPos> getSurroundingChunks(ChunkPos center, int searchDistance) {
-        final int minX = center.x - searchDistance;
-        final int minZ = center.z - searchDistance;
-
-        final int maxX = center.x + searchDistance;
-        final int maxZ = center.z + searchDistance;
-
-        MutableInt x = new MutableInt(minX - 1);
-        MutableInt z = new MutableInt(minZ);
-
-        return Stream.generate(() -> {
-            if (x.incrementAndGet() <= maxX) {
-                return new ChunkPos(x.intValue(), z.intValue());
-            }
-
-            if (z.incrementAndGet() <= maxZ) {
-                x.setValue(minX);
-                return new ChunkPos(x.intValue(), z.intValue());
-            }
-
-            return null;
-        }).takeWhile(Objects::nonNull);
+    private static <T> void addNonNull(List<T> result, List<T> values) {
+        for (T value : values) {
+            if (value != null) result.add(value);
+        }
     }
 }
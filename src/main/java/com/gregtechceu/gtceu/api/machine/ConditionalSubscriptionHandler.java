@@ -1,6 +1,9 @@
 package com.gregtechceu.gtceu.api.machine;
 
 import com.gregtechceu.gtceu.api.blockentity.ITickSubscription;
+import com.gregtechceu.gtceu.api.machine.trait.IRecipeHandlerTrait;
+
+import com.lowdragmc.lowdraglib.syncdata.ISubscription;
 
 import net.minecraft.server.MinecraftServer;
 import net.minecraft.server.TickTask;
@@ -8,6 +11,8 @@ import net.minecraft.server.level.ServerLevel;
 import net.minecraft.util.thread.BlockableEventLoop;
 import net.minecraft.world.level.Level;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.function.BooleanSupplier;
 
 /**
@@ -15,6 +20,9 @@ import java.util.function.BooleanSupplier;
  * <p>
  * When the subscription is not currently active, it will be removed from the event loop, in order to not unnecessarily
  * consume resources.
+ * <p>
+ * The subscription can also be put to sleep until one of a set of handlers changes, see
+ * {@link #sleepUntilChanged(List)}.
  */
 public class ConditionalSubscriptionHandler {
 
@@ -23,6 +31,7 @@ public class ConditionalSubscriptionHandler {
     private final BooleanSupplier condition;
 
     private TickableSubscription subscription;
+    private final List<ISubscription> wakeUpSubscriptions = new ArrayList<>();
 
     public ConditionalSubscriptionHandler(ITickSubscription handler, Runnable runnable, BooleanSupplier condition) {
         this.handler = handler;
@@ -51,9 +60,10 @@ public class ConditionalSubscriptionHandler {
     }
 
     /**
-     * Updates the subscription according to whether it should currently be active.
+     * Updates the subscription according to whether it should currently be active. Wakes up a sleeping subscription.
      */
     public void updateSubscription() {
+        clearWakeUpSubscriptions();
         if (condition.getAsBoolean()) {
             subscription = handler.subscribeServerTick(subscription, runnable);
         } else if (subscription != null) {
@@ -66,9 +76,38 @@ public class ConditionalSubscriptionHandler {
      * Unsubscribes the subscription from the event loop.
      */
     public void unsubscribe() {
+        clearWakeUpSubscriptions();
         if (subscription != null) {
             subscription.unsubscribe();
             subscription = null;
         }
     }
+
+    /**
+     * Removes the subscription from the event loop until one of the handlers changes, or until the subscription is
+     * updated. Only use this if nothing else the subscription depends on can change without updating it.
+     *
+     * @param handlers the handlers to wake up on
+     */
+    public void sleepUntilChanged(List<IRecipeHandlerTrait<?>> handlers) {
+        unsubscribe();
+        for (var handler : handlers) {
+            wakeUpSubscriptions.add(handler.addChangedListener(this::wakeUp));
+        }
+    }
+
+    private void wakeUp() {
+        // the handler is iterating its listeners, so they are only removed on the next update
+        if (subscription == null) {
+            subscription = handler.subscribeServerTick(null, runnable);
+        }
+    }
+
+    private void clearWakeUpSubscriptions() {
+        if (wakeUpSubscriptions.isEmpty()) return;
+        for (var sub : wakeUpSubscriptions) {
+            sub.unsubscribe();
+        }
+        wakeUpSubscriptions.clear();
+    }
 }
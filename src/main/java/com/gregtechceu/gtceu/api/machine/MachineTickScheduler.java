@@ -0,0 +1,81 @@
+package com.gregtechceu.gtceu.api.machine;
+
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.level.Level;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Wakes up machines whose block entities were removed from the level's ticker list because all of their
+ * {@link TickableSubscription}s were sleeping.
+ * <p>
+ * Wake-ups are kept in a timing wheel of {@link #WHEEL_SIZE} buckets indexed by game time, so every tick only has to
+ * look at the machines scheduled for that bucket.
+ * Machines that gain a new subscription re-attach themselves immediately, see {@link MetaMachine#attachTicker()}.
+ */
+public class MachineTickScheduler {
+
+    private static final int WHEEL_SIZE = 256;
+    private static final int WHEEL_MASK = WHEEL_SIZE - 1;
+
+    private static final Map<ResourceKey<Level>, MachineTickScheduler> schedulers = new HashMap<>();
+
+    private final List<List<WakeUp>> wheel = new ArrayList<>(WHEEL_SIZE);
+
+    private MachineTickScheduler() {
+        for (int i = 0; i < WHEEL_SIZE; i++) {
+            wheel.add(new ArrayList<>());
+        }
+    }
+
+    /**
+     * Schedules a detached machine to be re-attached to the level's tickers.
+     *
+     * @param level    the level of the machine
+     * @param machine  the machine to wake up
+     * @param gameTime the game time the machine must tick at
+     */
+    public static void schedule(ServerLevel level, MetaMachine machine, long gameTime) {
+        var scheduler = schedulers.computeIfAbsent(level.dimension(), key -> new MachineTickScheduler());
+        scheduler.wheel.get((int) (gameTime & WHEEL_MASK)).add(new WakeUp(machine, gameTime));
+    }
+
+    // schedule tick event here
+    public static void onTickUpdate(ServerLevel level) {
+        var scheduler = schedulers.get(level.dimension());
+        if (scheduler == null) return;
+        // re-attached tickers run on the next level tick
+        long gameTime = level.getGameTime() + 1;
+        var bucket = scheduler.wheel.get((int) (gameTime & WHEEL_MASK));
+        if (bucket.isEmpty()) return;
+
+        List<WakeUp> due = null;
+        for (var iter = bucket.iterator(); iter.hasNext();) {
+            var wakeUp = iter.next();
+            // entries further away than one revolution stay in the bucket
+            if (wakeUp.gameTime <= gameTime) {
+                if (due == null) due = new ArrayList<>();
+                due.add(wakeUp);
+                iter.remove();
+            }
+        }
+        if (due != null) {
+            for (var wakeUp : due) {
+                if (!wakeUp.machine.isInValid()) {
+                    wakeUp.machine.attachTicker();
+                }
+            }
+        }
+    }
+
+    // clean up here
+    public static void onWorldUnLoad(ServerLevel level) {
+        schedulers.remove(level.dimension());
+    }
+
+    private record WakeUp(MetaMachine machine, long gameTime) {}
+}
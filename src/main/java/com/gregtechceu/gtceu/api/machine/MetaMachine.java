@@ -31,6 +31,8 @@ import com.gregtechceu.gtceu.common.cover.ItemFilterCover;
 import com.gregtechceu.gtceu.common.item.tool.behavior.ToolModeSwitchBehavior;
 import com.gregtechceu.gtceu.common.machine.owner.MachineOwner;
 import com.gregtechceu.gtceu.common.machine.owner.PlayerOwner;
+import com.gregtechceu.gtceu.config.ConfigHolder;
+import com.gregtechceu.gtceu.core.mixins.LevelChunkAccessor;
 
 import com.lowdragmc.lowdraglib.gui.texture.IGuiTexture;
 import com.lowdragmc.lowdraglib.gui.texture.ResourceTexture;
@@ -49,6 +51,7 @@ import net.minecraft.core.Direction;
 import net.minecraft.locale.Language;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.network.chat.Component;
+import net.minecraft.server.level.ServerLevel;
 import net.minecraft.util.RandomSource;
 import net.minecraft.world.InteractionHand;
 import net.minecraft.world.InteractionResult;
@@ -76,6 +79,7 @@ import lombok.Setter;
 import org.jetbrains.annotations.MustBeInvokedByOverriders;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
+import org.jetbrains.annotations.VisibleForTesting;
 
 import java.util.*;
 import java.util.function.Consumer;
@@ -120,6 +124,11 @@ public class MetaMachine implements IEnhancedManaged, IToolable, ITickSubscripti
     protected final List<MachineTrait> traits;
     private final List<TickableSubscription> serverTicks;
     private final List<TickableSubscription> waitingToAdd;
+    /**
+     * Whether the block entity was removed from the level's tickers, because every subscription was sleeping.
+     */
+    @Getter(onMethod_ = @VisibleForTesting)
+    private boolean tickerDetached = false;
 
     public MetaMachine(IMachineBlockEntity holder) {
         this.holder = holder;
@@ -263,6 +272,7 @@ public class MetaMachine implements IEnhancedManaged, IToolable, ITickSubscripti
         if (!isRemote()) {
             var subscription = new TickableSubscription(runnable);
             waitingToAdd.add(subscription);
+            attachTicker();
             return subscription;
         } else if (getLevel() instanceof DummyWorld) {
             var subscription = new TickableSubscription(runnable);
@@ -278,6 +288,46 @@ public class MetaMachine implements IEnhancedManaged, IToolable, ITickSubscripti
         }
     }
 
+    /**
+     * Skips a subscription for the given amount of ticks.
+     * If every subscription of this machine is sleeping, its block entity stops ticking until one wakes up.
+     *
+     * @param subscription the subscription to put to sleep
+     * @param ticks        the amount of ticks to skip
+     */
+    public void sleepServerTick(@Nullable TickableSubscription subscription, int ticks) {
+        if (subscription == null || getLevel() == null) return;
+        subscription.sleepUntil(getLevel().getGameTime() + ticks + 1);
+    }
+
+    /**
+     * Wakes up a sleeping subscription, so that it runs on the next tick.
+     */
+    public void wakeServerTick(@Nullable TickableSubscription subscription) {
+        if (subscription == null) return;
+        subscription.sleepUntil(0);
+        attachTicker();
+    }
+
+    /**
+     * Re-adds the block entity to the level's tickers, if it was detached.
+     */
+    public void attachTicker() {
+        if (!tickerDetached) return;
+        if (getLevel() instanceof ServerLevel serverLevel && serverLevel.isLoaded(getPos()) && !isInValid()) {
+            tickerDetached = false;
+            ((LevelChunkAccessor) serverLevel.getChunkAt(getPos())).callUpdateBlockEntityTicker(holder.getSelf());
+        }
+    }
+
+    private void detachTicker(ServerLevel serverLevel, long wakeUpTime) {
+        tickerDetached = true;
+        ((LevelChunkAccessor) serverLevel.getChunkAt(getPos())).callRemoveBlockEntityTicker(getPos());
+        if (wakeUpTime != Long.MAX_VALUE) {
+            MachineTickScheduler.schedule(serverLevel, this, wakeUpTime);
+        }
+    }
+
     public final void serverTick() {
         executeTick();
     }
@@ -296,21 +346,36 @@ public class MetaMachine implements IEnhancedManaged, IToolable, ITickSubscripti
     }
 
     private void executeTick() {
+        // the ticker runs, so it's attached again, e.g. after a chunk reload
+        tickerDetached = false;
         if (!waitingToAdd.isEmpty()) {
             serverTicks.addAll(waitingToAdd);
             waitingToAdd.clear();
         }
 
+        long gameTime = getLevel() == null ? 0 : getLevel().getGameTime();
         for (var iter = serverTicks.iterator(); iter.hasNext();) {
             var tickable = iter.next();
-            if (tickable.isStillSubscribed()) {
+            if (tickable.isStillSubscribed() && !tickable.isSleeping(gameTime)) {
                 tickable.run();
             }
-            if (isInValid()) break;
+            if (isInValid()) return;
             if (!tickable.isStillSubscribed()) {
                 iter.remove();
             }
         }
+
+        if (waitingToAdd.isEmpty() && getLevel() instanceof ServerLevel serverLevel &&
+                ConfigHolder.INSTANCE.machines.detachIdleMachineTickers) {
+            long wakeUpTime = Long.MAX_VALUE;
+            for (var tickable : serverTicks) {
+                wakeUpTime = Math.min(wakeUpTime, tickable.getWakeUpTime());
+            }
+            // only detach if nothing is due on the next tick
+            if (wakeUpTime > gameTime + 1) {
+                detachTicker(serverLevel, wakeUpTime);
+            }
+        }
     }
 
     //////////////////////////////////////
@@ -7,6 +7,11 @@ public class TickableSubscription {
     private final Runnable runnable;
     @Getter
     private boolean stillSubscribed;
+    /**
+     * The game time before which this subscription is skipped.
+     */
+    @Getter
+    private long wakeUpTime;
 
     public TickableSubscription(Runnable runnable) {
         this.runnable = runnable;
@@ -22,4 +27,15 @@ public class TickableSubscription {
     public void unsubscribe() {
         stillSubscribed = false;
     }
+
+    /**
+     * Skips this subscription until the given game time.
+     */
+    public void sleepUntil(long gameTime) {
+        this.wakeUpTime = gameTime;
+    }
+
+    public boolean isSleeping(long gameTime) {
+        return wakeUpTime > gameTime;
+    }
 }
@@ -0,0 +1,101 @@
+package com.gregtechceu.gtceu.api.machine.trait;
+
+import com.gregtechceu.gtceu.api.recipe.ingredient.IntProviderIngredient;
+import com.gregtechceu.gtceu.api.recipe.ingredient.SizedIngredient;
+import com.gregtechceu.gtceu.utils.ItemStackHashStrategy;
+
+import net.minecraft.world.item.Item;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.item.crafting.Ingredient;
+import net.minecraftforge.common.crafting.PartialNBTIngredient;
+import net.minecraftforge.common.crafting.StrictNBTIngredient;
+
+import it.unimi.dsi.fastutil.objects.*;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The combined item contents of one or more {@link RecipeHandlerList}s, counted per distinct stack and indexed by
+ * {@link Item}.
+ * <p>
+ * Ingredients whose matching items are known up front only have to be tested against the stacks of those items,
+ * instead of against every stack of the inventory, see {@link #getCandidates(Ingredient)}.
+ */
+public class ItemCountIndex {
+
+    private final Object2LongOpenCustomHashMap<ItemStack> counts = new Object2LongOpenCustomHashMap<>(
+            ItemStackHashStrategy.comparingAllButCount());
+    private final Reference2ObjectOpenHashMap<Item, List<ItemStack>> stacksByItem = new Reference2ObjectOpenHashMap<>();
+
+    /**
+     * Adds an amount of a stack to the index.
+     *
+     * @param stack the stack, its count is ignored
+     * @param count the amount to add
+     */
+    public void add(ItemStack stack, long count) {
+        if (stack.isEmpty() || count <= 0) return;
+        if (counts.containsKey(stack)) {
+            counts.addTo(stack, count);
+        } else {
+            // the stack may be a live view of a slot, so keep a copy as key
+            ItemStack key = stack.copyWithCount(1);
+            counts.put(key, count);
+            stacksByItem.computeIfAbsent(key.getItem(), item -> new ObjectArrayList<>(1)).add(key);
+        }
+    }
+
+    public void addAll(ItemCountIndex other) {
+        for (var entry : Object2LongMaps.fastIterable(other.counts)) {
+            add(entry.getKey(), entry.getLongValue());
+        }
+    }
+
+    public boolean isEmpty() {
+        return counts.isEmpty();
+    }
+
+    /**
+     * @return the amount of items equal to the stack, ignoring its count
+     */
+    public long getCount(ItemStack stack) {
+        return counts.getLong(stack);
+    }
+
+    /**
+     * Gets the stacks which may match an ingredient. Callers still have to test the returned stacks.
+     *
+     * @param ingredient the ingredient
+     * @return the stacks of the items the ingredient can match, or all stacks if they are not known up front
+     */
+    public Collection<ItemStack> getCandidates(Ingredient ingredient) {
+        Ingredient inner = ingredient;
+        while (true) {
+            if (inner instanceof SizedIngredient sized) inner = sized.getInner();
+            else if (inner instanceof IntProviderIngredient provider) inner = provider.getInner();
+            else break;
+        }
+        // only these ingredients are guaranteed to match nothing but the items they list
+        if (inner.getClass() != Ingredient.class && !(inner instanceof StrictNBTIngredient) &&
+                !(inner instanceof PartialNBTIngredient)) {
+            return counts.keySet();
+        }
+
+        ItemStack[] items = inner.getItems();
+        if (items.length == 1) {
+            return stacksByItem.getOrDefault(items[0].getItem(), Collections.emptyList());
+        }
+        List<ItemStack> candidates = null;
+        ReferenceOpenHashSet<Item> seen = new ReferenceOpenHashSet<>(items.length);
+        for (ItemStack item : items) {
+            if (!seen.add(item.getItem())) continue;
+            var stacks = stacksByItem.get(item.getItem());
+            if (stacks == null) continue;
+            if (candidates == null) candidates = new ObjectArrayList<>(stacks.size());
+            candidates.addAll(stacks);
+        }
+        return candidates == null ? Collections.emptyList() : candidates;
+    }
+}
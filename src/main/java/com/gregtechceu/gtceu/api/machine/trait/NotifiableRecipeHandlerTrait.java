@@ -24,6 +24,11 @@ public abstract class NotifiableRecipeHandlerTrait<T> extends MachineTrait imple
     @Getter
     @Setter
     protected boolean isDistinct;
+    /**
+     * Incremented every time listeners are notified, so that consumers can cheaply tell whether anything changed.
+     */
+    @Getter
+    protected long changeCount;
 
     public NotifiableRecipeHandlerTrait(MetaMachine machine) {
         super(machine);
@@ -41,6 +46,7 @@ public abstract class NotifiableRecipeHandlerTrait<T> extends MachineTrait imple
     }
 
     public void notifyListeners() {
+        changeCount++;
         listeners.forEach(Runnable::run);
     }
 }
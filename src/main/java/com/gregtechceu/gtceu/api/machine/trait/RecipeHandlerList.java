@@ -2,11 +2,15 @@ package com.gregtechceu.gtceu.api.machine.trait;
 
 import com.gregtechceu.gtceu.api.capability.recipe.IO;
 import com.gregtechceu.gtceu.api.capability.recipe.IRecipeHandler;
+import com.gregtechceu.gtceu.api.capability.recipe.ItemRecipeCapability;
 import com.gregtechceu.gtceu.api.capability.recipe.RecipeCapability;
 import com.gregtechceu.gtceu.api.recipe.GTRecipe;
+import com.gregtechceu.gtceu.utils.ItemStackHashStrategy;
 
 import com.lowdragmc.lowdraglib.syncdata.ISubscription;
 
+import net.minecraft.world.item.ItemStack;
+
 import it.unimi.dsi.fastutil.objects.Reference2ObjectOpenHashMap;
 import lombok.Getter;
 import lombok.Setter;
@@ -32,6 +36,9 @@ public class RecipeHandlerList {
     private final List<IRecipeHandler<?>> allHandlers = new ArrayList<>();
     private final List<NotifiableRecipeHandlerTrait<?>> allHandlerTraits = new ArrayList<>();
 
+    private ItemCountIndex itemCountIndex;
+    private long[] itemChangeCounts;
+
     @Getter
     private final IO handlerIO;
     @Getter
@@ -196,6 +203,71 @@ public class RecipeHandlerList {
         return copy;
     }
 
+    /**
+     * A cheap fingerprint of the handlers in this list and their contents.
+     * Notifiable handlers contribute their change count, other handlers a hash of their current contents.
+     *
+     * @return a value that changes whenever the contents of this list change
+     */
+    public long getFingerprint() {
+        long hash = allHandlers.size();
+        for (var handler : allHandlers) {
+            hash = hash * 31 + System.identityHashCode(handler);
+            if (handler instanceof NotifiableRecipeHandlerTrait<?> rht) {
+                hash = hash * 31 + rht.getChangeCount();
+            } else {
+                for (Object content : handler.getContents()) {
+                    hash = hash * 31 + contentHash(content);
+                }
+            }
+        }
+        return hash;
+    }
+
+    private static int contentHash(Object content) {
+        if (content instanceof ItemStack stack) {
+            // ItemStack does not implement hashCode
+            return ItemStackHashStrategy.comparingAllButCount().hashCode(stack) * 31 + stack.getCount();
+        }
+        return Objects.hashCode(content);
+    }
+
+    /**
+     * Gets the item contents of the item handlers in this list, counted per distinct stack.
+     * The index is only rebuilt when one of the item handlers changed. Handlers which cannot notify are read every
+     * time.
+     *
+     * @return the item contents of this list, must not be modified
+     */
+    public ItemCountIndex getItemCountIndex() {
+        var handlers = getCapability(ItemRecipeCapability.CAP);
+        if (itemCountIndex != null && !haveHandlersChanged(handlers)) return itemCountIndex;
+
+        ItemCountIndex index = new ItemCountIndex();
+        long[] changeCounts = new long[handlers.size()];
+        for (int i = 0; i < handlers.size(); i++) {
+            var handler = handlers.get(i);
+            if (handler instanceof NotifiableRecipeHandlerTrait<?> rht) changeCounts[i] = rht.getChangeCount();
+            for (Object content : handler.getContents()) {
+                if (content instanceof ItemStack stack) index.add(stack, stack.getCount());
+            }
+        }
+        this.itemCountIndex = index;
+        this.itemChangeCounts = changeCounts;
+        return index;
+    }
+
+    private boolean haveHandlersChanged(List<IRecipeHandler<?>> handlers) {
+        if (handlers.size() != itemChangeCounts.length) return true;
+        for (int i = 0; i < handlers.size(); i++) {
+            if (!(handlers.get(i) instanceof NotifiableRecipeHandlerTrait<?> rht) ||
+                    rht.getChangeCount() != itemChangeCounts[i]) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     public List<IRecipeHandler<?>> getHandlersFlat() {
         List<IRecipeHandler<?>> handlerList = new ArrayList<>();
         for (var handlerEntry : getHandlerMap().entrySet()) {
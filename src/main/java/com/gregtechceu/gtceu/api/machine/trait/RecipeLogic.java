@@ -65,6 +65,11 @@ public class RecipeLogic extends MachineTrait implements IEnhancedManaged, IWork
 
     public static final EnumProperty<RecipeLogic.Status> STATUS_PROPERTY = GTMachineModelProperties.RECIPE_LOGIC_STATUS;
     public static final ManagedFieldHolder MANAGED_FIELD_HOLDER = new ManagedFieldHolder(RecipeLogic.class);
+    /**
+     * Maximum amount of ticks a search may be skipped for with an unchanged fingerprint,
+     * so that changes not visible to the handlers (e.g. recipe conditions) are still picked up.
+     */
+    public static final int SEARCH_FINGERPRINT_REFRESH = 20;
 
     public final IRecipeLogicMachine machine;
     public List<GTRecipe> lastFailedMatches;
@@ -127,8 +132,16 @@ public class RecipeLogic extends MachineTrait implements IEnhancedManaged, IWork
     protected boolean suspendAfterFinish = false;
     @Getter
     protected final Map<RecipeCapability<?>, Object2IntMap<?>> chanceCaches = makeChanceCaches();
+    @Getter(onMethod_ = @VisibleForTesting)
     protected TickableSubscription subscription;
     protected Object workingSound;
+    /**
+     * Fingerprint of the machine's recipe handlers after the last search that did not start a recipe.
+     * While it is unchanged, searching again would give the same result and is skipped.
+     */
+    protected long searchFingerprint;
+    protected boolean hasSearchFingerprint = false;
+    protected long searchFingerprintTime;
 
     public RecipeLogic(IRecipeLogicMachine machine) {
         super(machine.self());
@@ -151,6 +164,7 @@ public class RecipeLogic extends MachineTrait implements IEnhancedManaged, IWork
      */
     public void resetRecipeLogic() {
         recipeDirty = false;
+        hasSearchFingerprint = false;
         lastRecipe = null;
         lastOriginRecipe = null;
         consecutiveRecipes = 0;
@@ -178,6 +192,8 @@ public class RecipeLogic extends MachineTrait implements IEnhancedManaged, IWork
             }
         } else {
             subscription = getMachine().subscribeServerTick(subscription, this::serverTick);
+            // cut a power failure back-off short, the machine has to react to resets and status changes right away
+            getMachine().wakeServerTick(subscription);
         }
     }
 
@@ -206,13 +222,19 @@ public class RecipeLogic extends MachineTrait implements IEnhancedManaged, IWork
                     onRecipeFinish();
                 }
             } else if (lastRecipe != null) {
-                findAndHandleRecipe();
+                if (!canSkipSearch()) {
+                    findAndHandleRecipe();
+                    updateSearchFingerprint();
+                }
             } else if (!machine.keepSubscribing() || getMachine().getOffsetTimer() % 5 == 0) {
-                findAndHandleRecipe();
-                if (lastFailedMatches != null) {
-                    for (GTRecipe match : lastFailedMatches) {
-                        if (checkMatchedRecipeAvailable(match)) break;
+                if (!canSkipSearch()) {
+                    findAndHandleRecipe();
+                    if (lastFailedMatches != null) {
+                        for (GTRecipe match : lastFailedMatches) {
+                            if (checkMatchedRecipeAvailable(match)) break;
+                        }
                     }
+                    updateSearchFingerprint();
                 }
             }
         }
@@ -232,6 +254,40 @@ public class RecipeLogic extends MachineTrait implements IEnhancedManaged, IWork
         }
     }
 
+    /**
+     * Computes a fingerprint of the machine's input and output handlers.
+     * Output handlers are included, since a recipe may be blocked on output space.
+     */
+    protected long computeSearchFingerprint() {
+        long hash = System.identityHashCode(machine.getRecipeType());
+        for (var handlerList : machine.getCapabilitiesForIO(IO.IN)) {
+            hash = hash * 31 + handlerList.getFingerprint();
+        }
+        for (var handlerList : machine.getCapabilitiesForIO(IO.OUT)) {
+            hash = hash * 31 + handlerList.getFingerprint();
+        }
+        return hash;
+    }
+
+    /**
+     * @return if the last search did not start a recipe, and nothing has changed since
+     */
+    protected boolean canSkipSearch() {
+        if (!hasSearchFingerprint || recipeDirty) return false;
+        if (getMachine().getOffsetTimer() - searchFingerprintTime >= SEARCH_FINGERPRINT_REFRESH) return false;
+        return computeSearchFingerprint() == searchFingerprint;
+    }
+
+    protected void updateSearchFingerprint() {
+        if (isWorking()) {
+            hasSearchFingerprint = false;
+            return;
+        }
+        searchFingerprint = computeSearchFingerprint();
+        searchFingerprintTime = getMachine().getOffsetTimer();
+        hasSearchFingerprint = true;
+    }
+
     protected ActionResult matchRecipe(GTRecipe recipe) {
         return RecipeHelper.matchContents(machine, recipe);
     }
@@ -299,6 +355,11 @@ public class RecipeLogic extends MachineTrait implements IEnhancedManaged, IWork
                         }
                     }
                     runDelay = runAttempt * 60;
+                    if (runDelay > 0 && subscription != null) {
+                        // sleep through the back-off, so the machine can stop ticking entirely
+                        getMachine().sleepServerTick(subscription, runDelay);
+                        runDelay = 0;
+                    }
                 }
             }
         } else {
@@ -418,6 +479,8 @@ public class RecipeLogic extends MachineTrait implements IEnhancedManaged, IWork
      */
     public void markLastRecipeDirty() {
         this.recipeDirty = true;
+        this.hasSearchFingerprint = false;
+        getMachine().wakeServerTick(subscription);
     }
 
     public boolean isWorking() {
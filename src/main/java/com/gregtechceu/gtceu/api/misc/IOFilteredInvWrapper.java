@@ -29,6 +29,10 @@ public class IOFilteredInvWrapper extends CombinedInvWrapper {
         this.outFilter = outFilter;
     }
 
+    public IItemHandlerModifiable[] getHandlers() {
+        return itemHandler;
+    }
+
     @Override
     public @NotNull ItemStack insertItem(int slot, @NotNull ItemStack stack, boolean simulate) {
         if (!io.support(IO.IN) || !inFilter.test(stack)) return stack;
@@ -164,12 +164,17 @@ public class BlockPattern {
                             matchContext.getOrCreate("vaBlocks", LongOpenHashSet::new)
                                     .add(worldState.getPos().asLong());
                         }
-                        if (!predicate.test(worldState) || !canPartShared) { // matching failed
+                        boolean matched = predicate.test(worldState) && canPartShared;
+                        if (predicate.addCache()) {
+                            worldState.setPosChecked(pos, predicate, matched);
+                        }
+                        if (!matched) { // matching failed
                             if (findFirstAisle) {
                                 if (r < aisleRepetitions[c][0]) {// retreat to see if the first aisle can start later
                                     r = c = 0;
                                     z = minZ++;
                                     matchContext.reset();
+                                    worldState.clearCheckedPositions();
                                     findFirstAisle = false;
                                 }
                             } else {
@@ -17,6 +17,7 @@ import net.minecraft.world.level.Level;
 import net.minecraft.world.level.block.entity.BlockEntity;
 import net.minecraft.world.level.block.state.BlockState;
 
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
 import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
 import it.unimi.dsi.fastutil.longs.LongSet;
 import it.unimi.dsi.fastutil.longs.LongSets;
@@ -55,6 +56,14 @@ public class MultiblockState {
 
     // persist
     public LongOpenHashSet cache;
+    /**
+     * The predicate each cached position was checked against, or {@code null} if it was checked against more than one
+     */
+    private final Long2ObjectOpenHashMap<TraceabilityPredicate> checkedPredicates = new Long2ObjectOpenHashMap<>();
+    /**
+     * The block state each cached position matched its predicate with
+     */
+    private final Long2ObjectOpenHashMap<BlockState> matchedStates = new Long2ObjectOpenHashMap<>();
 
     public MultiblockState(Level world, BlockPos controllerPos) {
         this.world = world;
@@ -68,6 +77,7 @@ public class MultiblockState {
         this.globalCount = new Object2IntOpenHashMap<>();
         this.layerCount = new Object2IntOpenHashMap<>();
         cache = new LongOpenHashSet();
+        clearCheckedPositions();
     }
 
     public boolean update(BlockPos posIn, TraceabilityPredicate predicate) {
@@ -156,6 +166,55 @@ public class MultiblockState {
         return cache.contains(pos.asLong());
     }
 
+    /**
+     * Records the result of checking a cached position against its predicate.
+     */
+    public void setPosChecked(BlockPos pos, TraceabilityPredicate predicate, boolean matched) {
+        long key = pos.asLong();
+        if (!checkedPredicates.containsKey(key)) {
+            checkedPredicates.put(key, predicate);
+        } else if (checkedPredicates.get(key) != predicate) {
+            checkedPredicates.put(key, null);
+        }
+        if (matched) {
+            matchedStates.put(key, getBlockState());
+        } else {
+            matchedStates.remove(key);
+        }
+    }
+
+    public void clearCheckedPositions() {
+        checkedPredicates.clear();
+        matchedStates.clear();
+    }
+
+    /**
+     * Re-tests only the changed position of a formed structure.
+     * <p>
+     * Every other position keeps its result, so the structure stays the same if the changed position was only checked
+     * against a single predicate, keeps its block, and still matches. Block entities are always rechecked in full,
+     * since they are collected as parts.
+     *
+     * @return if the full pattern check can be skipped
+     */
+    public boolean canSkipRevalidation(BlockPos pos, BlockState state) {
+        long key = pos.asLong();
+        TraceabilityPredicate predicate = checkedPredicates.get(key);
+        BlockState matched = matchedStates.get(key);
+        if (predicate == null || matched == null || matched.getBlock() != state.getBlock() ||
+                state.hasBlockEntity()) {
+            return false;
+        }
+        // test in isolation, so the counts and match context of the formed structure are left untouched
+        MultiblockState isolated = new MultiblockState(world, controllerPos);
+        isolated.clean();
+        if (!isolated.update(pos, predicate) || !predicate.test(isolated)) {
+            return false;
+        }
+        matchedStates.put(key, state);
+        return true;
+    }
+
     public Collection<BlockPos> getCache() {
         return cache.longStream().mapToObj(BlockPos::of).collect(Collectors.toSet());
     }
@@ -186,6 +245,10 @@ public class MultiblockState {
                             return;
                         }
                     }
+                    if (controller.isFormed() && canSkipRevalidation(pos, state)) {
+                        // nothing else changed, no need to check the whole pattern again
+                        return;
+                    }
                     if (controller.checkPatternWithLock()) {
                         // refresh structure
                         controller.self().setFlipped(this.neededFlip);
@@ -11,6 +11,9 @@ import net.minecraft.server.level.ServerLevel;
 import net.minecraft.world.level.ChunkPos;
 import net.minecraft.world.level.saveddata.SavedData;
 
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongIterator;
+
 import java.util.*;
 
 public abstract class LevelPipeNet<NodeDataType, T extends PipeNet<NodeDataType>> extends SavedData {
@@ -18,6 +21,10 @@ public abstract class LevelPipeNet<NodeDataType, T extends PipeNet<NodeDataType>
     private final ServerLevel serverLevel;
     protected List<T> pipeNets = new ArrayList<>();
     protected final Map<ChunkPos, List<T>> pipeNetsByChunk = new HashMap<>();
+    /**
+     * The net of every node, keyed by {@link BlockPos#asLong()}
+     */
+    protected final Long2ObjectOpenHashMap<T> pipeNetsByNode = new Long2ObjectOpenHashMap<>();
 
     public LevelPipeNet(ServerLevel serverLevel) {
         this.serverLevel = serverLevel;
@@ -50,7 +57,7 @@ public abstract class LevelPipeNet<NodeDataType, T extends PipeNet<NodeDataType>
         for (Direction facing : GTUtil.DIRECTIONS) {
             BlockPos offsetPos = nodePos.relative(facing);
             T pipeNet = getNetFromPos(offsetPos);
-            Node<NodeDataType> secondNode = pipeNet == null ? null : pipeNet.getAllNodes().get(offsetPos);
+            Node<NodeDataType> secondNode = pipeNet == null ? null : pipeNet.getNodeAt(offsetPos);
             if (pipeNet != null && pipeNet.canAttachNode(nodeData) &&
                     pipeNet.canNodesConnect(secondNode, facing.getOpposite(), node, null)) {
                 if (myPipeNet == null) {
@@ -80,6 +87,14 @@ public abstract class LevelPipeNet<NodeDataType, T extends PipeNet<NodeDataType>
         if (list.isEmpty()) this.pipeNetsByChunk.remove(chunkPos);
     }
 
+    protected void addNodeToIndex(BlockPos nodePos, T pipeNet) {
+        this.pipeNetsByNode.put(nodePos.asLong(), pipeNet);
+    }
+
+    protected void removeNodeFromIndex(BlockPos nodePos, T pipeNet) {
+        this.pipeNetsByNode.remove(nodePos.asLong(), pipeNet);
+    }
+
     public void removeNode(BlockPos nodePos) {
         T pipeNet = getNetFromPos(nodePos);
         if (pipeNet != null) {
@@ -110,12 +125,7 @@ public abstract class LevelPipeNet<NodeDataType, T extends PipeNet<NodeDataType>
     }
 
     public T getNetFromPos(BlockPos blockPos) {
-        List<T> pipeNetsInChunk = pipeNetsByChunk.getOrDefault(new ChunkPos(blockPos), Collections.emptyList());
-        for (T pipeNet : pipeNetsInChunk) {
-            if (pipeNet.containsNode(blockPos))
-                return pipeNet;
-        }
-        return null;
+        return pipeNetsByNode.get(blockPos.asLong());
     }
 
     protected void addPipeNet(T pipeNet) {
@@ -125,12 +135,18 @@ public abstract class LevelPipeNet<NodeDataType, T extends PipeNet<NodeDataType>
     protected void addPipeNetSilently(T pipeNet) {
         this.pipeNets.add(pipeNet);
         pipeNet.getContainedChunks().forEach(chunkPos -> addPipeNetToChunk(chunkPos, pipeNet));
+        for (LongIterator iterator = pipeNet.getAllNodePositions().iterator(); iterator.hasNext();) {
+            pipeNetsByNode.put(iterator.nextLong(), pipeNet);
+        }
         pipeNet.isValid = true;
     }
 
     protected void removePipeNet(T pipeNet) {
         this.pipeNets.remove(pipeNet);
         pipeNet.getContainedChunks().forEach(chunkPos -> removePipeNetFromChunk(chunkPos, pipeNet));
+        for (LongIterator iterator = pipeNet.getAllNodePositions().iterator(); iterator.hasNext();) {
+            pipeNetsByNode.remove(iterator.nextLong(), pipeNet);
+        }
         pipeNet.isValid = false;
         setDirty();
     }
@@ -14,6 +14,9 @@ import net.minecraft.world.level.ChunkPos;
 
 import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
 import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongSet;
+import it.unimi.dsi.fastutil.longs.LongSets;
 import it.unimi.dsi.fastutil.objects.Object2IntMap;
 import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
 
@@ -23,9 +26,9 @@ import java.util.Map.Entry;
 public abstract class PipeNet<NodeDataType> implements ITagSerializable<CompoundTag> {
 
     protected final LevelPipeNet<NodeDataType, PipeNet<NodeDataType>> worldData;
-    private final Map<BlockPos, Node<NodeDataType>> nodeByBlockPos = new HashMap<>();
-    private final Map<BlockPos, Node<NodeDataType>> unmodifiableNodeByBlockPos = Collections
-            .unmodifiableMap(nodeByBlockPos);
+    private final Long2ObjectOpenHashMap<Node<NodeDataType>> nodeByBlockPos = new Long2ObjectOpenHashMap<>();
+    private final Map<BlockPos, Node<NodeDataType>> unmodifiableNodeByBlockPos = new NodeMapView();
+    private final LongSet unmodifiableNodePositions = LongSets.unmodifiable(nodeByBlockPos.keySet());
     private final Object2IntOpenHashMap<ChunkPos> ownedChunks = new Object2IntOpenHashMap<>();
     private long lastUpdate;
     boolean isValid = false;
@@ -74,16 +77,26 @@ public abstract class PipeNet<NodeDataType> implements ITagSerializable<Compound
 
     public void onNeighbourUpdate(BlockPos fromPos) {}
 
+    /**
+     * @return an unmodifiable view of all nodes of this net. Prefer {@link #getAllNodePositions()} for iterating
+     */
     public Map<BlockPos, Node<NodeDataType>> getAllNodes() {
         return unmodifiableNodeByBlockPos;
     }
 
+    /**
+     * @return the positions of all nodes of this net, as {@link BlockPos#asLong()}
+     */
+    public LongSet getAllNodePositions() {
+        return unmodifiableNodePositions;
+    }
+
     public Node<NodeDataType> getNodeAt(BlockPos blockPos) {
-        return nodeByBlockPos.get(blockPos);
+        return nodeByBlockPos.get(blockPos.asLong());
     }
 
     public boolean containsNode(BlockPos blockPos) {
-        return nodeByBlockPos.containsKey(blockPos);
+        return nodeByBlockPos.containsKey(blockPos.asLong());
     }
 
     public boolean isNodeConnectedTo(BlockPos pos, Direction side) {
@@ -95,8 +108,11 @@ public abstract class PipeNet<NodeDataType> implements ITagSerializable<Compound
     }
 
     protected void addNodeSilently(BlockPos nodePos, Node<NodeDataType> node) {
-        this.nodeByBlockPos.put(nodePos, node);
+        this.nodeByBlockPos.put(nodePos.asLong(), node);
         checkAddedInChunk(nodePos);
+        if (isValid()) {
+            this.worldData.addNodeToIndex(nodePos, this);
+        }
     }
 
     protected void addNode(BlockPos nodePos, Node<NodeDataType> node) {
@@ -106,14 +122,17 @@ public abstract class PipeNet<NodeDataType> implements ITagSerializable<Compound
     }
 
     protected Node<NodeDataType> removeNodeWithoutRebuilding(BlockPos nodePos) {
-        Node<NodeDataType> removedNode = this.nodeByBlockPos.remove(nodePos);
+        Node<NodeDataType> removedNode = this.nodeByBlockPos.remove(nodePos.asLong());
         ensureRemovedFromChunk(nodePos);
+        if (isValid()) {
+            this.worldData.removeNodeFromIndex(nodePos, this);
+        }
         worldData.setDirty();
         return removedNode;
     }
 
     public void removeNode(BlockPos nodePos) {
-        if (nodeByBlockPos.containsKey(nodePos)) {
+        if (containsNode(nodePos)) {
             Node<NodeDataType> selfNode = removeNodeWithoutRebuilding(nodePos);
             rebuildNetworkOnNodeRemoval(nodePos, selfNode);
         }
@@ -165,7 +184,8 @@ public abstract class PipeNet<NodeDataType> implements ITagSerializable<Compound
                     // now block again to call findAllConnectedBlocks
                     setBlocked(selfNode, facing, true);
                     HashMap<BlockPos, Node<NodeDataType>> thisENet = findAllConnectedBlocks(nodePos);
-                    if (!getAllNodes().equals(thisENet)) {
+                    // the connected blocks are always part of this net, so comparing the sizes is enough
+                    if (nodeByBlockPos.size() != thisENet.size()) {
                         // node visibility has changed, split network into 2
                         // node that code below is similar to removeNodeInternal, but only for 2 networks, and without
                         // node removal
@@ -234,7 +254,7 @@ public abstract class PipeNet<NodeDataType> implements ITagSerializable<Compound
                 if (selfConnectedBlocks == null) {
                     selfConnectedBlocks = findAllConnectedBlocks(nodePos);
                 }
-                if (getAllNodes().equals(selfConnectedBlocks)) {
+                if (nodeByBlockPos.size() == selfConnectedBlocks.size()) {
                     continue; // if this node is still connected to this network, just continue
                 }
                 // otherwise, it is not connected
@@ -349,7 +369,7 @@ public abstract class PipeNet<NodeDataType> implements ITagSerializable<Compound
                     continue;
                 }
                 HashMap<BlockPos, Node<NodeDataType>> thisENet = findAllConnectedBlocks(offsetPos);
-                if (getAllNodes().equals(thisENet)) {
+                if (nodeByBlockPos.size() == thisENet.size()) {
                     // if cable on some direction contains all nodes of this network
                     // the network didn't change so keep it as is
                     break;
@@ -409,7 +429,7 @@ public abstract class PipeNet<NodeDataType> implements ITagSerializable<Compound
     @Override
     public CompoundTag serializeNBT() {
         CompoundTag compound = new CompoundTag();
-        compound.put("Nodes", serializeAllNodeList(nodeByBlockPos));
+        compound.put("Nodes", serializeAllNodeList(getAllNodes()));
         return compound;
     }
 
@@ -492,4 +512,54 @@ public abstract class PipeNet<NodeDataType> implements ITagSerializable<Compound
         compound.put("WireProperties", wirePropertiesList);
         return compound;
     }
+
+    /**
+     * Unmodifiable {@link BlockPos} keyed view of {@link #nodeByBlockPos}
+     */
+    private class NodeMapView extends AbstractMap<BlockPos, Node<NodeDataType>> {
+
+        @Override
+        public int size() {
+            return nodeByBlockPos.size();
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            return key instanceof BlockPos pos && nodeByBlockPos.containsKey(pos.asLong());
+        }
+
+        @Override
+        public Node<NodeDataType> get(Object key) {
+            return key instanceof BlockPos pos ? nodeByBlockPos.get(pos.asLong()) : null;
+        }
+
+        @Override
+        public Set<Entry<BlockPos, Node<NodeDataType>>> entrySet() {
+            return new AbstractSet<>() {
+
+                @Override
+                public int size() {
+                    return nodeByBlockPos.size();
+                }
+
+                @Override
+                public Iterator<Entry<BlockPos, Node<NodeDataType>>> iterator() {
+                    var iterator = nodeByBlockPos.long2ObjectEntrySet().iterator();
+                    return new Iterator<>() {
+
+                        @Override
+                        public boolean hasNext() {
+                            return iterator.hasNext();
+                        }
+
+                        @Override
+                        public Entry<BlockPos, Node<NodeDataType>> next() {
+                            var entry = iterator.next();
+                            return new SimpleImmutableEntry<>(BlockPos.of(entry.getLongKey()), entry.getValue());
+                        }
+                    };
+                }
+            };
+        }
+    }
 }
@@ -30,6 +30,7 @@ import it.unimi.dsi.fastutil.objects.*;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.experimental.Accessors;
+import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
@@ -275,6 +276,11 @@ public class GTRecipeType implements RecipeType<GTRecipe> {
         return researchEntries.get(researchId);
     }
 
+    @ApiStatus.Internal
+    public Map<String, Collection<GTRecipe>> getDataStickEntries() {
+        return Collections.unmodifiableMap(researchEntries);
+    }
+
     public boolean removeDataStickEntry(@NotNull String researchId, @NotNull GTRecipe recipe) {
         Collection<GTRecipe> collection = researchEntries.get(researchId);
         if (collection == null) return false;
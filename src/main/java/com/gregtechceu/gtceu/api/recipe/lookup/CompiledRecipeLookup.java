@@ -0,0 +1,268 @@
+package com.gregtechceu.gtceu.api.recipe.lookup;
+
+import com.gregtechceu.gtceu.api.recipe.GTRecipe;
+import com.gregtechceu.gtceu.api.recipe.lookup.ingredient.AbstractMapIngredient;
+
+import com.mojang.datafixers.util.Either;
+import it.unimi.dsi.fastutil.HashCommon;
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.objects.ObjectArrayList;
+import it.unimi.dsi.fastutil.objects.Reference2IntOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Reference2ObjectOpenHashMap;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+
+/**
+ * A frozen, flattened copy of a {@link GTRecipeLookup}'s {@link Branch} tree.
+ * <p>
+ * Every regular (non-special) ingredient key of the tree is interned to an {@code int} id, and each branch is stored
+ * as an open-addressing table from id to either a {@link GTRecipe} or the next {@link Node}.
+ * Special ingredients keep their original equality-based maps, since they are differentiated by equality only.
+ * <p>
+ * The walk visits ingredients and nodes in the exact same order as
+ * {@link GTRecipeLookup#recurseIngredientTreeFindRecipe(List, Branch, Predicate)}, so it returns the same recipes.
+ * It must be rebuilt whenever the source tree changes.
+ */
+public final class CompiledRecipeLookup {
+
+    /** Ids of the interned ingredient keys, grouped by the key's hash code */
+    private final Int2ObjectMap<int[]> idsByHash;
+    /** The interned ingredient keys, indexed by id */
+    private final AbstractMapIngredient[] keys;
+    private final Node root;
+
+    private CompiledRecipeLookup(Int2ObjectMap<int[]> idsByHash, AbstractMapIngredient[] keys, Node root) {
+        this.idsByHash = idsByHash;
+        this.keys = keys;
+        this.root = root;
+    }
+
+    /**
+     * Compiles a branch tree.
+     *
+     * @param root the root of the tree to compile
+     * @return the compiled lookup
+     */
+    @NotNull
+    public static CompiledRecipeLookup compile(@NotNull Branch root) {
+        Reference2IntOpenHashMap<AbstractMapIngredient> interned = new Reference2IntOpenHashMap<>();
+        interned.defaultReturnValue(-1);
+        List<AbstractMapIngredient> keys = new ObjectArrayList<>();
+        Node compiledRoot = compileBranch(root, interned, keys);
+
+        Int2ObjectOpenHashMap<IntArrayList> grouped = new Int2ObjectOpenHashMap<>();
+        for (int id = 0; id < keys.size(); id++) {
+            grouped.computeIfAbsent(keys.get(id).hashCode(), $ -> new IntArrayList(1)).add(id);
+        }
+        Int2ObjectOpenHashMap<int[]> idsByHash = new Int2ObjectOpenHashMap<>(grouped.size());
+        for (var entry : grouped.int2ObjectEntrySet()) {
+            idsByHash.put(entry.getIntKey(), entry.getValue().toIntArray());
+        }
+        idsByHash.trim();
+        return new CompiledRecipeLookup(idsByHash, keys.toArray(AbstractMapIngredient[]::new), compiledRoot);
+    }
+
+    private static Node compileBranch(Branch branch, Reference2IntOpenHashMap<AbstractMapIngredient> interned,
+                                      List<AbstractMapIngredient> keys) {
+        Node node = new Node(branch.isEmptyBranch() ? 0 : branch.getNodes().size());
+        if (branch.isEmptyBranch()) return node;
+
+        for (var entry : branch.getNodes().entrySet()) {
+            AbstractMapIngredient key = entry.getKey();
+            int id = interned.getInt(key);
+            if (id == -1) {
+                id = keys.size();
+                keys.add(key);
+                interned.put(key, id);
+            }
+            node.put(id, compileValue(entry.getValue(), interned, keys));
+        }
+
+        var special = branch.getSpecialNodes();
+        if (!special.isEmpty()) {
+            node.specialNodes = special;
+            node.specialBranches = new Reference2ObjectOpenHashMap<>();
+            for (var value : special.values()) {
+                if (value.right().isPresent()) {
+                    Branch child = value.right().get();
+                    node.specialBranches.put(child, compileBranch(child, interned, keys));
+                }
+            }
+        }
+        return node;
+    }
+
+    private static Object compileValue(Either<GTRecipe, Branch> value,
+                                       Reference2IntOpenHashMap<AbstractMapIngredient> interned,
+                                       List<AbstractMapIngredient> keys) {
+        return value.map(recipe -> recipe, branch -> compileBranch(branch, interned, keys));
+    }
+
+    /**
+     * Resolves the ingredients of a search into the ids of every interned key they are equal to.
+     * Special ingredients resolve to {@code null}, and are looked up by equality instead.
+     *
+     * @param ingredients the ingredients to resolve
+     * @return the resolved ids, indexed by ingredient slot, then by alternative
+     */
+    private int[][][] resolve(@NotNull List<List<AbstractMapIngredient>> ingredients) {
+        int[][][] resolved = new int[ingredients.size()][][];
+        for (int i = 0; i < ingredients.size(); i++) {
+            List<AbstractMapIngredient> alternatives = ingredients.get(i);
+            int[][] ids = new int[alternatives.size()][];
+            for (int j = 0; j < alternatives.size(); j++) {
+                AbstractMapIngredient ingredient = alternatives.get(j);
+                if (ingredient.isSpecialIngredient()) continue;
+                int[] candidates = idsByHash.get(ingredient.hashCode());
+                if (candidates == null) {
+                    ids[j] = Node.NO_IDS;
+                    continue;
+                }
+                int count = 0;
+                int[] matching = new int[candidates.length];
+                for (int id : candidates) {
+                    // same direction as the hash map lookups of the source tree
+                    if (ingredient.equals(keys[id])) {
+                        matching[count++] = id;
+                    }
+                }
+                ids[j] = count == matching.length ? matching : Arrays.copyOf(matching, count);
+            }
+            resolved[i] = ids;
+        }
+        return resolved;
+    }
+
+    /**
+     * Finds a recipe, top level.
+     *
+     * @param ingredients the ingredients to search with, at most 64 slots
+     * @param canHandle   if the found recipe is valid
+     * @return a recipe
+     */
+    @Nullable
+    public GTRecipe find(@NotNull List<List<AbstractMapIngredient>> ingredients,
+                         @NotNull Predicate<GTRecipe> canHandle) {
+        int[][][] resolved = resolve(ingredients);
+        for (int i = 0; i < ingredients.size(); i++) {
+            GTRecipe r = find(ingredients, resolved, root, canHandle, i, 0, 1L << i);
+            if (r != null) {
+                return r;
+            }
+        }
+        return null;
+    }
+
+    @Nullable
+    private GTRecipe find(List<List<AbstractMapIngredient>> ingredients, int[][][] resolved, Node node,
+                          Predicate<GTRecipe> canHandle, int index, int count, long skip) {
+        // exhausted all the ingredients, and didn't find anything
+        if (count == ingredients.size()) return null;
+
+        List<AbstractMapIngredient> alternatives = ingredients.get(index);
+        int[][] ids = resolved[index];
+        for (int j = 0; j < alternatives.size(); j++) {
+            Object result;
+            if (ids[j] == null) {
+                result = node.getSpecial(alternatives.get(j));
+            } else {
+                result = node.get(ids[j]);
+            }
+            if (result == null) continue;
+
+            GTRecipe r;
+            if (result instanceof GTRecipe recipe) {
+                r = canHandle.test(recipe) ? recipe : null;
+            } else {
+                r = dive(ingredients, resolved, (Node) result, canHandle, index, count, skip);
+            }
+            if (r != null) {
+                return r;
+            }
+        }
+        return null;
+    }
+
+    @Nullable
+    private GTRecipe dive(List<List<AbstractMapIngredient>> ingredients, int[][][] resolved, Node node,
+                          Predicate<GTRecipe> canHandle, int currentIndex, int count, long skip) {
+        // We loop around ingredients.size() if we reach the end.
+        int size = ingredients.size();
+        int i = (currentIndex + 1) % size;
+        while (i != currentIndex) {
+            if ((skip & (1L << i)) == 0) {
+                GTRecipe found = find(ingredients, resolved, node, canHandle, i, count + 1, skip | (1L << i));
+                if (found != null) {
+                    return found;
+                }
+            }
+            i = (i + 1) % size;
+        }
+        return null;
+    }
+
+    /**
+     * A single compiled branch.
+     */
+    private static final class Node {
+
+        private static final int[] NO_IDS = new int[0];
+
+        /** Interned ids offset by one, so that 0 marks a free slot */
+        private int[] keys;
+        /** Either a {@link GTRecipe} or a {@link Node} */
+        private Object[] values;
+        private int mask;
+        @Nullable
+        private Map<AbstractMapIngredient, Either<GTRecipe, Branch>> specialNodes;
+        @Nullable
+        private Reference2ObjectOpenHashMap<Branch, Node> specialBranches;
+
+        private Node(int expected) {
+            // keep the load factor at or below 0.5
+            int capacity = HashCommon.nextPowerOfTwo(Math.max(2, expected * 2));
+            this.keys = new int[capacity];
+            this.values = new Object[capacity];
+            this.mask = capacity - 1;
+        }
+
+        private void put(int id, Object value) {
+            int pos = HashCommon.mix(id) & mask;
+            while (keys[pos] != 0) {
+                if (keys[pos] == id + 1) break;
+                pos = (pos + 1) & mask;
+            }
+            keys[pos] = id + 1;
+            values[pos] = value;
+        }
+
+        @Nullable
+        private Object get(int[] ids) {
+            for (int id : ids) {
+                int pos = HashCommon.mix(id) & mask;
+                int key;
+                while ((key = keys[pos]) != 0) {
+                    if (key == id + 1) return values[pos];
+                    pos = (pos + 1) & mask;
+                }
+            }
+            return null;
+        }
+
+        @Nullable
+        private Object getSpecial(AbstractMapIngredient ingredient) {
+            if (specialNodes == null) return null;
+            Either<GTRecipe, Branch> result = specialNodes.get(ingredient);
+            if (result == null) return null;
+            if (result.left().isPresent()) return result.left().get();
+            return specialBranches.get(result.right().get());
+        }
+    }
+}
@@ -41,6 +41,13 @@ public class GTRecipeLookup {
 
     private static final WeakHashMap<AbstractMapIngredient, WeakReference<AbstractMapIngredient>> ingredientRoot = new WeakHashMap<>();
 
+    /**
+     * The frozen copy of {@link #lookup}, if compiled lookups are enabled.
+     * Discarded whenever the tree is changed.
+     */
+    @Nullable
+    private volatile CompiledRecipeLookup compiled;
+
     /**
      * Finds a GTRecipe matching the Fluid and/or ItemStack Inputs in the holder.
      *
@@ -106,6 +113,11 @@ public class GTRecipeLookup {
         List<List<AbstractMapIngredient>> list = prepareRecipeFind(holder);
         // couldn't build any inputs to use for search, so no recipe could be found
         if (list == null) return null;
+        CompiledRecipeLookup compiled = this.compiled;
+        // the compiled walk tracks used ingredients in a long
+        if (compiled != null && list.size() <= Long.SIZE) {
+            return compiled.find(list, canHandle);
+        }
         return recurseIngredientTreeFindRecipe(list, lookup, canHandle);
     }
 
@@ -455,11 +467,25 @@ public class GTRecipeLookup {
      */
     @ApiStatus.Internal
     public void removeAllRecipes() {
+        this.compiled = null;
         this.lookup.getNodes().clear();
         this.lookup.getSpecialNodes().clear();
         this.recipeType.getCategoryMap().clear();
     }
 
+    /**
+     * Freezes the current ingredient tree into a {@link CompiledRecipeLookup}, if enabled in the config.
+     * Adding or removing recipes afterwards discards the compiled tree until this is called again.
+     */
+    @ApiStatus.Internal
+    public void freeze() {
+        if (ConfigHolder.INSTANCE.recipes.compiledRecipeLookup) {
+            this.compiled = CompiledRecipeLookup.compile(lookup);
+        } else {
+            this.compiled = null;
+        }
+    }
+
     /**
      * Compiles a recipe and adds it to the ingredient tree
      *
@@ -477,6 +503,7 @@ public class GTRecipeLookup {
             FluidIngredient fluid = FluidRecipeCapability.CAP.of(content.content);
             PowerlessJetpack.FUELS.putIfAbsent(fluid, recipe.duration);
         }
+        this.compiled = null;
         List<List<AbstractMapIngredient>> items = fromRecipe(recipe);
         if (recurseIngredientTreeAdd(recipe, items, lookup, 0, 0)) {
             recipe.recipeCategory.addRecipe(recipe);
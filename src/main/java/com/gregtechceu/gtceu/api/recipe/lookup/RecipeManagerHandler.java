@@ -7,11 +7,15 @@ import net.minecraft.resources.ResourceLocation;
 import net.minecraft.world.item.crafting.Recipe;
 import net.minecraft.world.item.crafting.RecipeType;
 
+import it.unimi.dsi.fastutil.objects.ReferenceOpenHashSet;
 import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 /**
  * Internal class handling adding recipes to GT's lookup system.
@@ -64,4 +68,33 @@ public final class RecipeManagerHandler {
             }
         }
     }
+
+    /**
+     * Adds recipes which were built directly instead of being loaded from a data pack. A data pack recipe of the same
+     * id overrides them, even if its conditions disabled it, the same as if they were in a data pack themselves.
+     *
+     * @param directRecipes the recipes to add
+     * @param packRecipeIds the ids of all recipes in the data packs, including the ones skipped by their conditions
+     * @param byName        the recipes by their ID, to add the recipes to
+     * @param recipes       the recipes by type and ID; the map of every type a recipe is added to is replaced by a
+     *                      mutable copy
+     */
+    public static void addDirectRecipes(@NotNull Collection<GTRecipe> directRecipes,
+                                        @NotNull Set<ResourceLocation> packRecipeIds,
+                                        @NotNull Map<ResourceLocation, Recipe<?>> byName,
+                                        @NotNull Map<RecipeType<?>, Map<ResourceLocation, Recipe<?>>> recipes) {
+        Set<RecipeType<?>> copiedTypes = new ReferenceOpenHashSet<>();
+        for (GTRecipe recipe : directRecipes) {
+            if (packRecipeIds.contains(recipe.getId()) || byName.putIfAbsent(recipe.getId(), recipe) != null) {
+                continue;
+            }
+            RecipeType<?> type = recipe.getType();
+            Map<ResourceLocation, Recipe<?>> recipesByID = recipes.get(type);
+            if (copiedTypes.add(type)) {
+                recipesByID = recipesByID == null ? new LinkedHashMap<>() : new LinkedHashMap<>(recipesByID);
+                recipes.put(type, recipesByID);
+            }
+            recipesByID.put(recipe.getId(), recipe);
+        }
+    }
 }
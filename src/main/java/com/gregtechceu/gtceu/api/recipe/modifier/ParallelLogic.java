@@ -169,6 +169,9 @@ public class ParallelLogic {
 
     /**
      * Fast parallel, the parallel amount is always the 2 times the divisor of parallelLimit.
+     * <p>
+     * Halvings above the amount the input inventories can supply are skipped without copying the recipe,
+     * so usually only a single multiplied copy has to be matched.
      *
      * @param machine       recipe holder
      * @param recipe        current recipe
@@ -179,6 +182,14 @@ public class ParallelLogic {
         if (parallelLimit <= 1) return parallelLimit;
         if (!(machine instanceof IRecipeCapabilityHolder holder)) return 1;
 
+        // 0 means either no inputs at all or not enough for a single run, so only skip for a positive bound
+        int maxByInput = getMaxByInput(holder, recipe, parallelLimit, Collections.emptyList());
+        if (maxByInput > 0) {
+            while (parallelLimit > maxByInput) {
+                parallelLimit /= 2;
+            }
+        }
+
         while (parallelLimit > 0) {
             var copied = recipe.copy(ContentModifier.multiplier(parallelLimit), false);
             if (RecipeHelper.matchRecipe(holder, copied).isSuccess() &&
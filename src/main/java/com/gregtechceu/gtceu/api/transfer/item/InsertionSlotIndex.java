@@ -0,0 +1,158 @@
+package com.gregtechceu.gtceu.api.transfer.item;
+
+import com.gregtechceu.gtceu.api.machine.trait.NotifiableItemStackHandler;
+import com.gregtechceu.gtceu.api.misc.IOFilteredInvWrapper;
+import com.gregtechceu.gtceu.utils.ItemStackHashStrategy;
+
+import net.minecraft.MethodsReturnNonnullByDefault;
+import net.minecraft.world.item.ItemStack;
+import net.minecraftforge.items.IItemHandler;
+import net.minecraftforge.items.ItemHandlerHelper;
+
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.objects.Object2ObjectOpenCustomHashMap;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.annotation.ParametersAreNonnullByDefault;
+
+/**
+ * Indexes the slots of an item handler by the stack they hold, so inserting a stack only has to visit the empty slots
+ * and the slots holding the same item, instead of every slot of the handler.
+ * <p>
+ * The index is built lazily on the first insertion, and rebuilt after an insertion that changed the handler.
+ * It does not see changes made to the handler by anything else, so it should only be kept for a single transfer.
+ * <p>
+ * Skipping the slots that hold other items is only correct for handlers known to behave like plain stack handlers.
+ * Others, such as drawers, trash cans or virtual slots, may accept a stack into a slot showing another item, so they
+ * are inserted into through {@link ItemHandlerHelper} instead. This includes the large inventories of other mods,
+ * such as drawers and ME interfaces, unless their handler class is registered with
+ * {@link #registerPlainHandler(Class)}.
+ */
+@MethodsReturnNonnullByDefault
+@ParametersAreNonnullByDefault
+public class InsertionSlotIndex {
+
+    private static final Set<Class<?>> PLAIN_HANDLERS = ConcurrentHashMap.newKeySet();
+
+    static {
+        PLAIN_HANDLERS.add(CustomItemStackHandler.class);
+        PLAIN_HANDLERS.add(NotifiableItemStackHandler.class);
+    }
+
+    private final IItemHandler handler;
+    private final boolean plain;
+    private final IntArrayList emptySlots = new IntArrayList();
+    private final Object2ObjectOpenCustomHashMap<ItemStack, IntArrayList> slotsByType =
+            new Object2ObjectOpenCustomHashMap<>(ItemStackHashStrategy.comparingAllButCount());
+    private boolean indexed;
+
+    public InsertionSlotIndex(IItemHandler handler) {
+        this.handler = handler;
+        this.plain = isPlain(handler);
+    }
+
+    /**
+     * Lets the slots of a handler class be indexed. Only register classes whose slots accept a stack only if they are
+     * empty or hold the same item, and whose slots show the stacks they hold. Subclasses have to be registered on
+     * their own, as they may override the insertion.
+     *
+     * @param type the exact class of the handler
+     */
+    public static void registerPlainHandler(Class<? extends IItemHandler> type) {
+        PLAIN_HANDLERS.add(type);
+    }
+
+    /**
+     * @return whether a slot of the handler only accepts a stack if it is empty or holds the same item
+     */
+    private static boolean isPlain(IItemHandler handler) {
+        if (handler instanceof IOFilteredInvWrapper wrapper) {
+            // the filters of the wrapper don't depend on the slot
+            for (IItemHandler inner : wrapper.getHandlers()) {
+                if (!isPlain(inner)) return false;
+            }
+            return true;
+        }
+        // subclasses may override the insertion
+        return PLAIN_HANDLERS.contains(handler.getClass());
+    }
+
+    private void index() {
+        if (indexed) return;
+        emptySlots.clear();
+        slotsByType.clear();
+        for (int slot = 0; slot < handler.getSlots(); slot++) {
+            ItemStack stack = handler.getStackInSlot(slot);
+            if (stack.isEmpty()) {
+                emptySlots.add(slot);
+            } else {
+                slotsByType.computeIfAbsent(stack, s -> new IntArrayList(1)).add(slot);
+            }
+        }
+        indexed = true;
+    }
+
+    /**
+     * Inserts a stack into the slots in order, the same as {@link ItemHandlerHelper#insertItem}.
+     *
+     * @return the remainder of the stack
+     */
+    public ItemStack insert(ItemStack stack, boolean simulate) {
+        if (stack.isEmpty()) return stack;
+        if (!plain) return ItemHandlerHelper.insertItem(handler, stack, simulate);
+        index();
+        IntArrayList sameType = slotsByType.get(stack);
+        int typeSize = sameType == null ? 0 : sameType.size();
+        int emptySize = emptySlots.size();
+
+        // slots holding other items can't accept the stack, merge the others to keep the slot order
+        ItemStack remainder = stack;
+        int i = 0, j = 0;
+        while (i < typeSize || j < emptySize) {
+            int slot;
+            if (j == emptySize || (i < typeSize && sameType.getInt(i) < emptySlots.getInt(j))) {
+                slot = sameType.getInt(i++);
+            } else {
+                slot = emptySlots.getInt(j++);
+            }
+            remainder = handler.insertItem(slot, remainder, simulate);
+            if (remainder.isEmpty()) break;
+        }
+        onInserted(stack, remainder, simulate);
+        return remainder;
+    }
+
+    /**
+     * Inserts a stack into the slots holding the same item first, then into the empty slots, the same as
+     * {@link ItemHandlerHelper#insertItemStacked}.
+     *
+     * @return the remainder of the stack
+     */
+    public ItemStack insertStacked(ItemStack stack, boolean simulate) {
+        if (stack.isEmpty()) return stack;
+        if (!plain) return ItemHandlerHelper.insertItemStacked(handler, stack, simulate);
+        if (!stack.isStackable()) return insert(stack, simulate);
+        index();
+        IntArrayList sameType = slotsByType.get(stack);
+
+        ItemStack remainder = stack;
+        if (sameType != null) {
+            for (int i = 0; i < sameType.size() && !remainder.isEmpty(); i++) {
+                remainder = handler.insertItem(sameType.getInt(i), remainder, simulate);
+            }
+        }
+        for (int i = 0; i < emptySlots.size() && !remainder.isEmpty(); i++) {
+            remainder = handler.insertItem(emptySlots.getInt(i), remainder, simulate);
+        }
+        onInserted(stack, remainder, simulate);
+        return remainder;
+    }
+
+    private void onInserted(ItemStack stack, ItemStack remainder, boolean simulate) {
+        if (!simulate && remainder.getCount() != stack.getCount()) {
+            indexed = false;
+        }
+    }
+}
@@ -88,6 +88,7 @@ public final class MachineModel extends BaseBakedModel implements ICoverableRend
     private final @Nullable MultiPartBakedModel multiPart;
     @Getter
     private final List<DynamicRender<?, ?>> dynamicRenders;
+    private final @Nullable MachineQuadCache quadCache;
 
     @Getter
     private final ItemTransforms transforms;
@@ -127,6 +128,38 @@ public final class MachineModel extends BaseBakedModel implements ICoverableRend
         for (DynamicRender<?, ?> render : this.dynamicRenders) {
             render.setParent(this);
         }
+        // dynamic renders may add quads for anything in the machine, and the root transform is applied to the
+        // returned quads in place, so neither can be cached
+        this.quadCache = dynamicRenders.isEmpty() && rootTransform.isIdentity() && hasOnlyStaticModels() ?
+                new MachineQuadCache() : null;
+    }
+
+    /**
+     * Checks that the quads of all base models only depend on the block state and side, as the random source and
+     * model data aren't part of the quad cache's key.
+     * Weighted variants pick their quads with the random source, for example.
+     */
+    private boolean hasOnlyStaticModels() {
+        for (BakedModel model : modelsByState.values()) {
+            if (!isStaticModel(model)) return false;
+        }
+        if (multiPart != null) {
+            for (BakedModel model : multiPart.getModels()) {
+                if (!isStaticModel(model)) return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isStaticModel(BakedModel model) {
+        if (model instanceof TextureOverrideModel<?> overrideModel) {
+            return isStaticModel(overrideModel.getChild());
+        }
+        // connected textures only depend on the neighbours, which are part of the key
+        if (model instanceof CustomBakedModel ctmModel) {
+            return isStaticModel(ctmModel.getParent());
+        }
+        return model instanceof SimpleBakedModel;
     }
 
     public static void initSprites(TextureAtlas atlas) {
@@ -257,14 +290,29 @@ public final class MachineModel extends BaseBakedModel implements ICoverableRend
         return quads;
     }
 
-    @SuppressWarnings({ "rawtypes", "unchecked" })
     public List<BakedQuad> renderMachine(@Nullable MetaMachine machine, @Nullable BlockAndTintGetter level,
                                          @Nullable BlockPos pos, @Nullable BlockState blockState,
                                          @Nullable Direction side, RandomSource rand,
                                          @NotNull ModelData modelData, @Nullable RenderType renderType) {
+        MachineRenderState renderState = machine != null ? machine.getRenderState() : definition.defaultRenderState();
+        // formed parts may take the textures of their controller, which isn't part of the key
+        if (quadCache != null && level != null && pos != null && blockState != null && side != null &&
+                !(machine instanceof IMultiPart part && part.replacePartModelWhenFormed() && part.isFormed())) {
+            var key = MachineQuadCache.Key.of(renderState, blockState, side, renderType, level, pos);
+            return quadCache.get(key, () -> bakeMachineQuads(machine, renderState, level, pos, blockState, side,
+                    rand, modelData, renderType));
+        }
+        return bakeMachineQuads(machine, renderState, level, pos, blockState, side, rand, modelData, renderType);
+    }
+
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    private List<BakedQuad> bakeMachineQuads(@Nullable MetaMachine machine, MachineRenderState renderState,
+                                             @Nullable BlockAndTintGetter level, @Nullable BlockPos pos,
+                                             @Nullable BlockState blockState, @Nullable Direction side,
+                                             RandomSource rand, @NotNull ModelData modelData,
+                                             @Nullable RenderType renderType) {
         List<BakedQuad> quads = new LinkedList<>();
 
-        MachineRenderState renderState = machine != null ? machine.getRenderState() : definition.defaultRenderState();
         renderBaseModel(quads, renderState, blockState, side, rand, modelData, renderType);
 
         for (DynamicRender render : dynamicRenders) {
@@ -0,0 +1,112 @@
+package com.gregtechceu.gtceu.client.model.machine;
+
+import net.minecraft.client.renderer.RenderType;
+import net.minecraft.client.renderer.block.model.BakedQuad;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.Direction;
+import net.minecraft.world.level.BlockAndTintGetter;
+import net.minecraft.world.level.block.state.BlockState;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * A bounded cache of the quads a {@link MachineModel} bakes for one side of a machine in the world, with the
+ * connected textures already applied.
+ * <p>
+ * Those quads only depend on the machine's render state and block state, the side and render type, and the
+ * appearance of the blocks the connected textures of that side may connect to, so together they form the key.
+ * Render states are part of the key, so a machine changing its render state never sees stale quads. Models whose
+ * quads also depend on the random source or model data don't use the cache.
+ */
+public class MachineQuadCache {
+
+    private static final int MAX_SIZE = 4096;
+
+    private final Cache<Key, List<BakedQuad>> cache = CacheBuilder.newBuilder()
+            .maximumSize(MAX_SIZE)
+            .build();
+
+    /**
+     * Gets the cached quads of a key, or bakes and caches them.
+     *
+     * @param key   the key of the quads
+     * @param baker bakes the quads if they aren't cached
+     * @return a mutable copy of the quads
+     */
+    public List<BakedQuad> get(Key key, Supplier<List<BakedQuad>> baker) {
+        List<BakedQuad> quads = cache.getIfPresent(key);
+        if (quads == null) {
+            // concurrent chunk builders may bake the same quads twice, which is harmless
+            quads = List.copyOf(baker.get());
+            cache.put(key, quads);
+        }
+        return new ArrayList<>(quads);
+    }
+
+    /**
+     * The key of the quads of one side of a machine.
+     * <p>
+     * {@code neighbours} holds the appearance of the machine itself, followed by the appearance of the blocks around
+     * the side and in front of it, which are the blocks its connected textures check.
+     */
+    public record Key(MachineRenderState renderState, BlockState blockState, Direction side,
+                      @Nullable RenderType renderType, BlockState[] neighbours) {
+
+        public static Key of(MachineRenderState renderState, BlockState blockState, Direction side,
+                             @Nullable RenderType renderType, BlockAndTintGetter level, BlockPos pos) {
+            BlockState[] neighbours = new BlockState[18];
+            neighbours[0] = blockState.getAppearance(level, pos, side, null, null);
+            int index = 1;
+            BlockPos.MutableBlockPos neighbourPos = new BlockPos.MutableBlockPos();
+            for (int depth = 0; depth <= 1; depth++) {
+                int offset = depth * side.getAxisDirection().getStep();
+                // a and b run across the side, depth goes out of it
+                for (int a = -1; a <= 1; a++) {
+                    for (int b = -1; b <= 1; b++) {
+                        if (depth == 0 && a == 0 && b == 0) continue;
+                        switch (side.getAxis()) {
+                            case X -> neighbourPos.setWithOffset(pos, offset, a, b);
+                            case Y -> neighbourPos.setWithOffset(pos, a, offset, b);
+                            case Z -> neighbourPos.setWithOffset(pos, a, b, offset);
+                        }
+                        neighbours[index++] = level.getBlockState(neighbourPos)
+                                .getAppearance(level, neighbourPos, side, blockState, pos);
+                    }
+                }
+            }
+            return new Key(renderState, blockState, side, renderType, neighbours);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Key key)) return false;
+            // states are interned, so they can be compared by identity
+            if (renderState != key.renderState || blockState != key.blockState || side != key.side ||
+                    renderType != key.renderType) {
+                return false;
+            }
+            for (int i = 0; i < neighbours.length; i++) {
+                if (neighbours[i] != key.neighbours[i]) return false;
+            }
+            return true;
+        }
+
+        @Override
+        public int hashCode() {
+            int result = System.identityHashCode(renderState);
+            result = 31 * result + System.identityHashCode(blockState);
+            result = 31 * result + side.hashCode();
+            result = 31 * result + System.identityHashCode(renderType);
+            result = 31 * result + Arrays.hashCode(neighbours);
+            return result;
+        }
+    }
+}
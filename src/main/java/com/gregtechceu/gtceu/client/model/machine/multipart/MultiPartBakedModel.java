@@ -67,6 +67,17 @@ public class MultiPartBakedModel implements IDynamicBakedModel {
         this.overrides = defaultModel.getOverrides();
     }
 
+    /**
+     * @return the models of all selectors, whether they apply to a render state or not
+     */
+    public List<BakedModel> getModels() {
+        List<BakedModel> models = new ArrayList<>(this.selectors.size());
+        for (var selector : this.selectors) {
+            models.add(selector.getRight());
+        }
+        return models;
+    }
+
     public BitSet getSelectors(@Nullable MachineRenderState state) {
         BitSet bitset = this.selectorCache.get(state);
         if (bitset == null) {
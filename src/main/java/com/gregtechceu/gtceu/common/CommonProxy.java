@@ -42,6 +42,7 @@ import com.gregtechceu.gtceu.data.lang.MaterialLangGenerator;
 import com.gregtechceu.gtceu.data.loot.ChestGenHooks;
 import com.gregtechceu.gtceu.data.loot.DungeonLootLoader;
 import com.gregtechceu.gtceu.data.pack.GTDynamicDataPack;
+import com.gregtechceu.gtceu.data.pack.GTDynamicDataPackCache;
 import com.gregtechceu.gtceu.data.pack.GTDynamicResourcePack;
 import com.gregtechceu.gtceu.data.pack.GTPackSource;
 import com.gregtechceu.gtceu.data.recipe.GTCraftingComponents;
@@ -327,7 +328,7 @@ public class CommonProxy {
             long startTime = System.currentTimeMillis();
             GTCraftingComponents.init();
             GTRecipes.recipeRemoval();
-            GTRecipes.recipeAddition(GTDynamicDataPack::addRecipe);
+            GTDynamicDataPackCache.loadOrGenerate(() -> GTRecipes.recipeAddition(GTDynamicDataPack::addRecipe));
             // Initialize dungeon loot additions
             DungeonLootLoader.init();
             GTCEu.LOGGER.info("GregTech Data loading took {}ms", System.currentTimeMillis() - startTime);
@@ -15,7 +15,6 @@ import com.gregtechceu.gtceu.common.data.GTMaterialBlocks;
 import com.gregtechceu.gtceu.common.item.PortableScannerBehavior;
 import com.gregtechceu.gtceu.common.pipelike.cable.*;
 import com.gregtechceu.gtceu.utils.FormattingUtil;
-import com.gregtechceu.gtceu.utils.GTMath;
 import com.gregtechceu.gtceu.utils.GTUtil;
 
 import com.lowdragmc.lowdraglib.gui.texture.ResourceTexture;
@@ -217,24 +216,23 @@ public class CableBlockEntity extends PipeBlockEntity<Insulation, WireProperties
     }
 
     /**
-     * Should only be called internally
+     * Should only be called internally, applies the load the cable carried during the current tick
      *
-     * @return if the cable should be destroyed
+     * @param amps         the total amperage
+     * @param voltageAmps  the sum of voltage times amperage of every insertion
+     * @param maxVoltage   the highest voltage
+     * @param overloadHeat the heat caused by exceeding the max amperage
      */
-    public boolean incrementAmperage(long amps, long voltage) {
-        if (voltage > maxVoltageCounter.get(getLevel())) {
-            maxVoltageCounter.set(getLevel(), voltage);
+    public void applyTickLoad(long amps, long voltageAmps, long maxVoltage, int overloadHeat) {
+        if (maxVoltage > maxVoltageCounter.get(getLevel())) {
+            maxVoltageCounter.set(getLevel(), maxVoltage);
         }
-        averageVoltageCounter.increment(getLevel(), voltage * amps);
+        averageVoltageCounter.increment(getLevel(), voltageAmps);
         averageAmperageCounter.increment(getLevel(), amps);
 
-        int dif = GTMath.saturatedCast(averageAmperageCounter.getLast(getLevel()) - getMaxAmperage());
-        if (dif > 0) {
-            applyHeat(dif * 40);
-            return true;
+        if (overloadHeat > 0) {
+            applyHeat(overloadHeat);
         }
-
-        return false;
     }
 
     public void applyHeat(int amount) {
@@ -11,6 +11,7 @@ import com.gregtechceu.gtceu.common.network.packets.hazard.SPacketSyncHazardZone
 import com.gregtechceu.gtceu.config.ConfigHolder;
 
 import net.minecraft.core.BlockPos;
+import net.minecraft.core.SectionPos;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.nbt.ListTag;
 import net.minecraft.nbt.NbtUtils;
@@ -18,21 +19,27 @@ import net.minecraft.nbt.Tag;
 import net.minecraft.network.FriendlyByteBuf;
 import net.minecraft.server.level.ServerLevel;
 import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.world.entity.player.Player;
 import net.minecraft.world.level.ChunkPos;
 import net.minecraft.world.level.chunk.LevelChunk;
 import net.minecraft.world.level.saveddata.SavedData;
 
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMaps;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.experimental.Accessors;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
+import org.jetbrains.annotations.VisibleForTesting;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
-import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
-import java.util.Set;
 import java.util.stream.Stream;
 
 /**
@@ -41,6 +48,17 @@ import java.util.stream.Stream;
 public class EnvironmentalHazardSavedData extends SavedData {
 
     public static final float MIN_STRENGTH_FOR_SPREAD = 1000;
+    /**
+     * The strength a spreading zone gives to each of its neighbours per tick it spreads.
+     */
+    public static final float SPREAD_STRENGTH = 20;
+    /**
+     * How often, in ticks, zones decay and spread. Players are affected by zones every tick.
+     */
+    public static final int UPDATE_INTERVAL = 20;
+
+    private static final int[] SPREAD_OFFSETS_X = { 0, 0, -1, 1 };
+    private static final int[] SPREAD_OFFSETS_Z = { -1, 1, 0, 0 };
 
     private final ServerLevel serverLevel;
 
@@ -49,6 +67,10 @@ public class EnvironmentalHazardSavedData extends SavedData {
      */
     @Getter
     private final Map<ChunkPos, HazardZone> hazardZones = new HashMap<>();
+    /**
+     * Zones changed during the current update, which are synced to the clients at the end of it.
+     */
+    private final Map<ChunkPos, ZoneChange> changedZones = new HashMap<>();
 
     public static EnvironmentalHazardSavedData getOrCreate(ServerLevel serverLevel) {
         return serverLevel.getDataStorage().computeIfAbsent(tag -> new EnvironmentalHazardSavedData(serverLevel, tag),
@@ -80,68 +102,159 @@ public class EnvironmentalHazardSavedData extends SavedData {
         if (!ConfigHolder.INSTANCE.gameplay.environmentalHazards) {
             return;
         }
+        if (hazardZones.isEmpty()) {
+            return;
+        }
 
-        Set<ChunkPos> zonesToSpread = new HashSet<>();
-        Set<ChunkPos> zonesToRemove = new HashSet<>();
-        for (final var entry : hazardZones.entrySet()) {
-            HazardZone zone = entry.getValue();
-            Stream<ServerPlayer> playersInZone = serverLevel.players()
-                    .stream()
-                    .filter(player -> new ChunkPos(BlockPos.containing(player.getEyePosition()))
-                            .equals(entry.getKey()));
-            tickPlayerHazards(zone, playersInZone);
-
-            zone = zone.removeStrength(ConfigHolder.INSTANCE.gameplay.environmentalHazardDecayRate);
-            if (zone == null) {
-                zonesToRemove.add(entry.getKey());
-            } else if (zone.canSpread() && zone.strength() > MIN_STRENGTH_FOR_SPREAD) {
-                zonesToSpread.add(entry.getKey());
+        Long2ObjectMap<List<ServerPlayer>> playersByChunk = getPlayersByChunk(serverLevel.players());
+        if (!playersByChunk.isEmpty()) {
+            for (final var entry : hazardZones.entrySet()) {
+                List<ServerPlayer> playersInZone = playersByChunk.get(entry.getKey().toLong());
+                if (playersInZone != null) {
+                    tickPlayerHazards(entry.getValue(), playersInZone.stream());
+                }
             }
         }
 
-        // remove empty zones
-        for (ChunkPos pos : zonesToRemove) {
-            hazardZones.remove(pos);
-            if (this.serverLevel.hasChunk(pos.x, pos.z)) {
-                LevelChunk chunk = this.serverLevel.getChunk(pos.x, pos.z);
-                GTNetwork.sendToAllPlayersTrackingChunk(chunk, new SPacketRemoveHazardZone(pos));
+        if (serverLevel.getGameTime() % UPDATE_INTERVAL == 0) {
+            updateZones(UPDATE_INTERVAL);
+            syncChangedZones();
+        }
+    }
+
+    /**
+     * Groups players by the chunk their eyes are in, so every zone only has to look up its own chunk.
+     */
+    @VisibleForTesting
+    static <T extends Player> Long2ObjectMap<List<T>> getPlayersByChunk(List<T> players) {
+        if (players.isEmpty()) {
+            return Long2ObjectMaps.emptyMap();
+        }
+        Long2ObjectMap<List<T>> playersByChunk = new Long2ObjectOpenHashMap<>(players.size());
+        for (T player : players) {
+            var eyePos = player.getEyePosition();
+            long chunkPos = ChunkPos.asLong(SectionPos.blockToSectionCoord(eyePos.x),
+                    SectionPos.blockToSectionCoord(eyePos.z));
+            playersByChunk.computeIfAbsent(chunkPos, pos -> new ArrayList<>(1)).add(player);
+        }
+        return playersByChunk;
+    }
+
+    /**
+     * Decays and spreads all zones by the given amount of ticks at once.
+     * <p>
+     * Every zone is stepped through the ticks one by one, so it only spreads on the ticks it is strong enough to, and
+     * its neighbours receive the strength of all of those ticks at the end. Zones created by the spread lose the decay
+     * of the ticks after the first one, the same as if they had been created on it.
+     *
+     * @param ticks the amount of ticks to update the zones by
+     */
+    @VisibleForTesting
+    void updateZones(int ticks) {
+        float decayRate = ConfigHolder.INSTANCE.gameplay.environmentalHazardDecayRate;
+
+        List<Spread> spreads = new ArrayList<>();
+        for (var iter = hazardZones.entrySet().iterator(); iter.hasNext();) {
+            var entry = iter.next();
+            HazardZone zone = entry.getValue();
+            int spreadTicks = 0;
+            for (int tick = 0; tick < ticks && zone != null; tick++) {
+                zone = zone.removeStrength(decayRate);
+                if (zone != null && zone.canSpread() && zone.strength() > MIN_STRENGTH_FOR_SPREAD) {
+                    zone = zone.removeStrength(SPREAD_STRENGTH * SPREAD_OFFSETS_X.length);
+                    spreadTicks++;
+                }
+            }
+            if (spreadTicks > 0) {
+                spreads.add(new Spread(entry.getKey(), entry.getValue(), spreadTicks));
+            }
+            if (zone == null) {
+                iter.remove();
+                markRemoved(entry.getKey());
             }
         }
 
-        for (ChunkPos pos : zonesToSpread) {
-            final HazardZone zone = hazardZones.get(pos);
-            ChunkPos[] relativePositions = new ChunkPos[] {
-                    new ChunkPos(pos.x, pos.z - 1),
-                    new ChunkPos(pos.x, pos.z + 1),
-                    new ChunkPos(pos.x - 1, pos.z),
-                    new ChunkPos(pos.x + 1, pos.z)
-            };
-            float removedStrength = 0;
-            for (ChunkPos relativePos : relativePositions) {
+        for (Spread spread : spreads) {
+            final HazardZone zone = spread.zone();
+            float addedStrength = SPREAD_STRENGTH * spread.ticks();
+            float newStrength = getNewZoneStrength(spread.ticks(), ticks, decayRate);
+            for (int i = 0; i < SPREAD_OFFSETS_X.length; i++) {
+                ChunkPos relativePos = new ChunkPos(spread.pos().x + SPREAD_OFFSETS_X[i],
+                        spread.pos().z + SPREAD_OFFSETS_Z[i]);
                 hazardZones.compute(relativePos, (k, v) -> {
-                    HazardZone newZone;
                     if (v != null && v.condition() == zone.condition() && v.trigger() == zone.trigger()) {
-                        newZone = v.addStrength(20);
-                        sendSyncZonePacket(k, newZone);
-                    } else {
-                        newZone = new HazardZone(k.getMiddleBlockPosition(zone.source().getY()), 20, true,
-                                zone.trigger(), zone.condition());
-                        sendAddZonePacket(k, newZone);
+                        markChanged(k, ZoneChange.STRENGTH);
+                        return v.addStrength(addedStrength);
                     }
-                    return newZone;
+                    if (newStrength <= 0) {
+                        // the new zone would have decayed again by the end of the update
+                        if (v != null) markRemoved(k);
+                        return null;
+                    }
+                    markChanged(k, ZoneChange.ADDED);
+                    return new HazardZone(k.getMiddleBlockPosition(zone.source().getY()), newStrength, true,
+                            zone.trigger(), zone.condition());
                 });
-                removedStrength += 20;
             }
-            HazardZone newZone = zone.removeStrength(removedStrength);
-            if (newZone == null) {
-                hazardZones.remove(pos);
-                if (this.serverLevel.hasChunk(pos.x, pos.z)) {
-                    LevelChunk chunk = this.serverLevel.getChunk(pos.x, pos.z);
-                    GTNetwork.sendToAllPlayersTrackingChunk(chunk, new SPacketRemoveHazardZone(pos));
+            this.setDirty();
+        }
+    }
+
+    /**
+     * @return the strength of a zone created by a spread on the first tick of an update, after the update
+     */
+    private static float getNewZoneStrength(int spreadTicks, int ticks, float decayRate) {
+        float strength = 0;
+        for (int tick = 0; tick < ticks; tick++) {
+            if (strength > 0) {
+                strength = Math.max(strength - decayRate, 0);
+            }
+            // zones only spread on the first ticks of an update, their strength only decreases during it
+            if (tick < spreadTicks) {
+                strength += SPREAD_STRENGTH;
+            }
+        }
+        return strength;
+    }
+
+    @VisibleForTesting
+    void markChanged(ChunkPos pos, ZoneChange change) {
+        // a zone that was removed or replaced earlier in the same update has to be sent in full
+        changedZones.merge(pos, change, (old, current) -> old == ZoneChange.STRENGTH ? current : ZoneChange.ADDED);
+    }
+
+    @VisibleForTesting
+    void markRemoved(ChunkPos pos) {
+        changedZones.put(pos, ZoneChange.REMOVED);
+    }
+
+    /**
+     * @return the zones changed since the last sync, and how they changed
+     */
+    @VisibleForTesting
+    Map<ChunkPos, ZoneChange> getChangedZones() {
+        return Collections.unmodifiableMap(changedZones);
+    }
+
+    private void syncChangedZones() {
+        if (changedZones.isEmpty()) {
+            return;
+        }
+        for (var entry : changedZones.entrySet()) {
+            ChunkPos pos = entry.getKey();
+            HazardZone zone = hazardZones.get(pos);
+            switch (entry.getValue()) {
+                case STRENGTH -> sendSyncZonePacket(pos, zone);
+                case ADDED -> sendAddZonePacket(pos, zone);
+                case REMOVED -> {
+                    if (this.serverLevel.hasChunk(pos.x, pos.z)) {
+                        LevelChunk chunk = this.serverLevel.getChunk(pos.x, pos.z);
+                        GTNetwork.sendToAllPlayersTrackingChunk(chunk, new SPacketRemoveHazardZone(pos));
+                    }
                 }
             }
-            this.setDirty();
         }
+        changedZones.clear();
     }
 
     public void tickPlayerHazards(final HazardZone zone, Stream<ServerPlayer> playerStream) {
@@ -320,6 +433,15 @@ public class EnvironmentalHazardSavedData extends SavedData {
         }
     }
 
+    @VisibleForTesting
+    enum ZoneChange {
+        ADDED,
+        STRENGTH,
+        REMOVED
+    }
+
+    private record Spread(ChunkPos pos, HazardZone zone, int ticks) {}
+
     public void sendAddZonePacket(ChunkPos pos, HazardZone zone) {
         if (this.serverLevel.hasChunk(pos.x, pos.z)) {
             LevelChunk chunk = this.serverLevel.getChunk(pos.x, pos.z);
@@ -15,10 +15,13 @@ import com.gregtechceu.gtceu.api.gui.GuiTextures;
 import com.gregtechceu.gtceu.api.gui.widget.EnumSelectorWidget;
 import com.gregtechceu.gtceu.api.gui.widget.IntInputWidget;
 import com.gregtechceu.gtceu.api.machine.ConditionalSubscriptionHandler;
+import com.gregtechceu.gtceu.api.machine.trait.IRecipeHandlerTrait;
+import com.gregtechceu.gtceu.api.transfer.item.InsertionSlotIndex;
 import com.gregtechceu.gtceu.api.transfer.item.ItemHandlerDelegate;
 import com.gregtechceu.gtceu.common.blockentity.ItemPipeBlockEntity;
 import com.gregtechceu.gtceu.common.cover.data.DistributionMode;
 import com.gregtechceu.gtceu.common.cover.data.ManualIOMode;
+import com.gregtechceu.gtceu.common.pipelike.item.ItemNetHandler;
 import com.gregtechceu.gtceu.utils.GTTransferUtils;
 import com.gregtechceu.gtceu.utils.ItemStackHashStrategy;
 
@@ -36,12 +39,12 @@ import com.lowdragmc.lowdraglib.utils.LocalizationUtils;
 import net.minecraft.MethodsReturnNonnullByDefault;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
+import net.minecraft.nbt.CompoundTag;
 import net.minecraft.network.chat.Component;
 import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.level.block.Block;
 import net.minecraftforge.items.IItemHandler;
 import net.minecraftforge.items.IItemHandlerModifiable;
-import net.minecraftforge.items.ItemHandlerHelper;
 
 import it.unimi.dsi.fastutil.ints.Int2IntFunction;
 import it.unimi.dsi.fastutil.ints.IntArrayList;
@@ -91,6 +94,11 @@ public class ConveyorCover extends CoverBehavior implements IIOCover, IUICover,
     protected boolean isWorkingEnabled = true;
     protected int itemsLeftToTransferLastSecond;
     private Widget ioModeSwitch;
+    /**
+     * The fingerprint of both inventories after the last transfer which moved nothing.
+     */
+    private long idleFingerprint;
+    private boolean isIdle;
 
     @Persisted
     @DescSynced
@@ -111,8 +119,8 @@ public class ConveyorCover extends CoverBehavior implements IIOCover, IUICover,
         subscriptionHandler = new ConditionalSubscriptionHandler(coverHolder, this::update, this::isSubscriptionActive);
         filterHandler = FilterHandlers.item(this)
                 .onFilterLoaded(f -> configureFilter())
-                .onFilterUpdated(f -> configureFilter())
-                .onFilterRemoved(f -> configureFilter());
+                .onFilterUpdated(f -> onFilterChanged())
+                .onFilterRemoved(f -> onFilterChanged());
     }
 
     public ConveyorCover(CoverDefinition definition, ICoverable coverHolder, Direction attachedSide, int tier) {
@@ -148,6 +156,7 @@ public class ConveyorCover extends CoverBehavior implements IIOCover, IUICover,
     public void setTransferRate(int transferRate) {
         if (transferRate <= maxItemTransferRate) {
             this.transferRate = transferRate;
+            subscriptionHandler.updateSubscription();
         }
     }
 
@@ -161,11 +170,13 @@ public class ConveyorCover extends CoverBehavior implements IIOCover, IUICover,
 
     public void setDistributionMode(DistributionMode distributionMode) {
         this.distributionMode = distributionMode;
+        subscriptionHandler.updateSubscription();
         coverHolder.markDirty();
     }
 
     protected void setManualIOMode(ManualIOMode manualIOMode) {
         this.manualIOMode = manualIOMode;
+        subscriptionHandler.updateSubscription();
         coverHolder.markDirty();
     }
 
@@ -210,23 +221,38 @@ public class ConveyorCover extends CoverBehavior implements IIOCover, IUICover,
     protected void update() {
         long timer = coverHolder.getOffsetTimer();
         if (timer % 5 == 0) {
+            List<IRecipeHandlerTrait<?>> wakeUpHandlers = null;
             if (itemsLeftToTransferLastSecond > 0) {
                 var adjacent = getAdjacentItemHandler();
                 var self = getOwnItemHandler();
 
                 if (adjacent != null && self != null) {
-                    int totalTransferred = switch (io) {
-                        case IN -> doTransferItems(adjacent, self, itemsLeftToTransferLastSecond);
-                        case OUT -> doTransferItems(self, adjacent, itemsLeftToTransferLastSecond);
-                        default -> 0;
-                    };
-                    this.itemsLeftToTransferLastSecond -= totalTransferred;
+                    // nothing can have changed if neither inventory did, but still retry every second since
+                    // not every change shows up in the slots, e.g. stacks replaced by an equal copy of the same size
+                    long fingerprint = getTransferFingerprint(adjacent, self);
+                    if (!isIdle || fingerprint != idleFingerprint || timer % 20 == 0) {
+                        int totalTransferred = switch (io) {
+                            case IN -> doTransferItems(adjacent, self, itemsLeftToTransferLastSecond);
+                            case OUT -> doTransferItems(self, adjacent, itemsLeftToTransferLastSecond);
+                            default -> 0;
+                        };
+                        this.itemsLeftToTransferLastSecond -= totalTransferred;
+                        this.isIdle = totalTransferred == 0 && canSkipIdleTransfer(adjacent, self);
+                        this.idleFingerprint = fingerprint;
+                        if (isIdle) {
+                            wakeUpHandlers = GTTransferUtils.getNotifiableHandlers(adjacent, self);
+                        }
+                    }
                 }
             }
             if (timer % 20 == 0) {
                 this.itemsLeftToTransferLastSecond = transferRate;
             }
             subscriptionHandler.updateSubscription();
+            if (wakeUpHandlers != null) {
+                // both inventories notify about their changes, so stop ticking until one of them does
+                subscriptionHandler.sleepUntilChanged(wakeUpHandlers);
+            }
         }
     }
 
@@ -234,9 +260,40 @@ public class ConveyorCover extends CoverBehavior implements IIOCover, IUICover,
         return moveInventoryItems(sourceInventory, targetInventory, maxTransferAmount);
     }
 
+    /**
+     * @return if a transfer which moved nothing can be skipped until one of the inventories changes
+     */
+    protected boolean canSkipIdleTransfer(IItemHandler adjacent, IItemHandler self) {
+        // the destinations of a pipe net don't show up in its slots
+        return !(adjacent instanceof ItemNetHandler) && !(self instanceof ItemNetHandler);
+    }
+
+    private long getTransferFingerprint(IItemHandler adjacent, IItemHandler self) {
+        long hash = System.identityHashCode(filterHandler.getFilter());
+        hash = hash * 31 + io.ordinal();
+        hash = hash * 31 + getInventoryFingerprint(adjacent);
+        hash = hash * 31 + getInventoryFingerprint(self);
+        return hash;
+    }
+
+    private static long getInventoryFingerprint(IItemHandler inventory) {
+        long hash = System.identityHashCode(inventory);
+        for (int slot = 0; slot < inventory.getSlots(); slot++) {
+            // most inventories return their live stacks, anything else never looks unchanged
+            ItemStack stack = inventory.getStackInSlot(slot);
+            hash = hash * 31 + System.identityHashCode(stack);
+            hash = hash * 31 + stack.getCount();
+            // tags, such as the damage, may be changed in place
+            CompoundTag tag = stack.getTag();
+            hash = hash * 31 + (tag == null ? 0 : tag.hashCode());
+        }
+        return hash;
+    }
+
     protected int moveInventoryItems(IItemHandler sourceInventory, IItemHandler targetInventory,
                                      int maxTransferAmount) {
         ItemFilter filter = filterHandler.getFilter();
+        InsertionSlotIndex targetSlots = new InsertionSlotIndex(targetInventory);
         int itemsLeftToTransfer = maxTransferAmount;
 
         for (int srcIndex = 0; srcIndex < sourceInventory.getSlots(); srcIndex++) {
@@ -249,13 +306,13 @@ public class ConveyorCover extends CoverBehavior implements IIOCover, IUICover,
                 continue;
             }
 
-            ItemStack remainder = ItemHandlerHelper.insertItem(targetInventory, sourceStack, true);
+            ItemStack remainder = targetSlots.insert(sourceStack, true);
             int amountToInsert = sourceStack.getCount() - remainder.getCount();
 
             if (amountToInsert > 0) {
                 sourceStack = sourceInventory.extractItem(srcIndex, amountToInsert, false);
                 if (!sourceStack.isEmpty()) {
-                    ItemHandlerHelper.insertItem(targetInventory, sourceStack, false);
+                    targetSlots.insert(sourceStack, false);
                     itemsLeftToTransfer -= sourceStack.getCount();
 
                     if (itemsLeftToTransfer == 0) {
@@ -269,6 +326,11 @@ public class ConveyorCover extends CoverBehavior implements IIOCover, IUICover,
 
     protected static boolean moveInventoryItemsExact(IItemHandler sourceInventory, IItemHandler targetInventory,
                                                      TypeItemInfo itemInfo) {
+        return moveInventoryItemsExact(sourceInventory, new InsertionSlotIndex(targetInventory), itemInfo);
+    }
+
+    protected static boolean moveInventoryItemsExact(IItemHandler sourceInventory, InsertionSlotIndex targetSlots,
+                                                     TypeItemInfo itemInfo) {
         // first, compute how much can we extract in reality from the machine,
         // because totalCount is based on what getStackInSlot returns, which may differ from what
         // extractItem() will return
@@ -298,13 +360,13 @@ public class ConveyorCover extends CoverBehavior implements IIOCover, IUICover,
 
         // now, see how much we can insert into destination inventory
         // if we can't insert as much as itemInfo requires, and remainder is empty, abort, abort
-        ItemStack remainder = ItemHandlerHelper.insertItem(targetInventory, resultStack, true);
+        ItemStack remainder = targetSlots.insert(resultStack, true);
         if (!remainder.isEmpty()) {
             return false;
         }
 
         // otherwise, perform real insertion and then remove items from the source inventory
-        ItemHandlerHelper.insertItem(targetInventory, resultStack, false);
+        targetSlots.insert(resultStack, false);
 
         // perform real extraction of the items from the source inventory now
         itemsLeftToExtract = itemInfo.totalCount;
@@ -325,6 +387,7 @@ public class ConveyorCover extends CoverBehavior implements IIOCover, IUICover,
     protected int moveInventoryItems(IItemHandler sourceInventory, IItemHandler targetInventory,
                                      Map<ItemStack, GroupItemInfo> itemInfos, int maxTransferAmount) {
         ItemFilter filter = filterHandler.getFilter();
+        InsertionSlotIndex targetSlots = new InsertionSlotIndex(targetInventory);
         int itemsLeftToTransfer = maxTransferAmount;
 
         for (int i = 0; i < sourceInventory.getSlots(); i++) {
@@ -338,7 +401,7 @@ public class ConveyorCover extends CoverBehavior implements IIOCover, IUICover,
             ItemStack extractedStack = sourceInventory.extractItem(i,
                     Math.min(itemInfo.totalCount, itemsLeftToTransfer), true);
 
-            ItemStack remainderStack = ItemHandlerHelper.insertItemStacked(targetInventory, extractedStack, true);
+            ItemStack remainderStack = targetSlots.insertStacked(extractedStack, true);
             int amountToInsert = extractedStack.getCount() - remainderStack.getCount();
 
             if (amountToInsert > 0) {
@@ -346,7 +409,7 @@ public class ConveyorCover extends CoverBehavior implements IIOCover, IUICover,
 
                 if (!extractedStack.isEmpty()) {
 
-                    ItemHandlerHelper.insertItemStacked(targetInventory, extractedStack, false);
+                    targetSlots.insertStacked(extractedStack, false);
                     itemsLeftToTransfer -= extractedStack.getCount();
                     itemInfo.totalCount -= extractedStack.getCount();
 
@@ -484,6 +547,13 @@ public class ConveyorCover extends CoverBehavior implements IIOCover, IUICover,
         // Do nothing in the base implementation. This is intended to be overridden by subclasses.
     }
 
+    private void onFilterChanged() {
+        configureFilter();
+        if (!isRemote()) {
+            subscriptionHandler.updateSubscription();
+        }
+    }
+
     /////////////////////////////////////
     // *** CAPABILITY OVERRIDE ***//
     /////////////////////////////////////
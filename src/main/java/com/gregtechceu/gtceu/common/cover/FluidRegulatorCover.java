@@ -72,6 +72,12 @@ public class FluidRegulatorCover extends PumpCover {
     // ***** Transfer Logic ******//
     //////////////////////////////////////
 
+    @Override
+    protected boolean canSleepAfterIdleTransfer() {
+        // a buffered transfer has to keep accumulating
+        return fluidTransferBuffered == 0;
+    }
+
     @Override
     protected int doTransferFluidsInternal(IFluidHandlerModifiable source, IFluidHandlerModifiable destination,
                                            int platformTransferLimit) {
@@ -179,6 +185,7 @@ public class FluidRegulatorCover extends PumpCover {
 
     private void setTransferMode(TransferMode transferMode) {
         this.transferMode = transferMode;
+        subscriptionHandler.updateSubscription();
 
         configureTransferSizeInput();
 
@@ -236,6 +243,7 @@ public class FluidRegulatorCover extends PumpCover {
     private void setCurrentBucketModeTransferSize(int transferSize) {
         this.globalTransferLimit = Math.min(Math.max(transferSize * this.transferBucketMode.multiplier, 0),
                 MAX_STACK_SIZE);
+        subscriptionHandler.updateSubscription();
     }
 
     private void configureTransferSizeInput() {
@@ -15,6 +15,7 @@ import com.gregtechceu.gtceu.api.gui.widget.EnumSelectorWidget;
 import com.gregtechceu.gtceu.api.gui.widget.IntInputWidget;
 import com.gregtechceu.gtceu.api.gui.widget.NumberInputWidget;
 import com.gregtechceu.gtceu.api.machine.ConditionalSubscriptionHandler;
+import com.gregtechceu.gtceu.api.machine.trait.IRecipeHandlerTrait;
 import com.gregtechceu.gtceu.api.transfer.fluid.FluidHandlerDelegate;
 import com.gregtechceu.gtceu.api.transfer.fluid.IFluidHandlerModifiable;
 import com.gregtechceu.gtceu.api.transfer.fluid.ModifiableFluidHandlerWrapper;
@@ -105,8 +106,8 @@ public class PumpCover extends CoverBehavior implements IIOCover, IUICover, ICon
         subscriptionHandler = new ConditionalSubscriptionHandler(coverHolder, this::update, this::isSubscriptionActive);
         filterHandler = FilterHandlers.fluid(this)
                 .onFilterLoaded(f -> configureFilter())
-                .onFilterUpdated(f -> configureFilter())
-                .onFilterRemoved(f -> configureFilter());
+                .onFilterUpdated(f -> onFilterChanged())
+                .onFilterRemoved(f -> onFilterChanged());
     }
 
     public PumpCover(CoverDefinition definition, ICoverable coverHolder, Direction attachedSide, int tier) {
@@ -144,6 +145,7 @@ public class PumpCover extends CoverBehavior implements IIOCover, IUICover, ICon
         if (io == IO.IN || io == IO.OUT) {
             this.io = io;
         }
+        subscriptionHandler.updateSubscription();
     }
 
     @Override
@@ -186,6 +188,7 @@ public class PumpCover extends CoverBehavior implements IIOCover, IUICover, ICon
 
     public void setTransferRate(int milliBucketsPerTick) {
         this.transferRate = Math.min(Math.max(milliBucketsPerTick, 0), maxFluidTransferRate);
+        subscriptionHandler.updateSubscription();
     }
 
     public void setBucketMode(BucketMode bucketMode) {
@@ -209,6 +212,7 @@ public class PumpCover extends CoverBehavior implements IIOCover, IUICover, ICon
 
     protected void setManualIOMode(ManualIOMode manualIOMode) {
         this.manualIOMode = manualIOMode;
+        subscriptionHandler.updateSubscription();
         coverHolder.markDirty();
     }
 
@@ -217,9 +221,14 @@ public class PumpCover extends CoverBehavior implements IIOCover, IUICover, ICon
         if (timer % 5 != 0)
             return;
 
+        List<IRecipeHandlerTrait<?>> wakeUpHandlers = null;
         if (mBLeftToTransferLastSecond > 0) {
             int platformTransferredFluid = doTransferFluids(mBLeftToTransferLastSecond);
             this.mBLeftToTransferLastSecond -= platformTransferredFluid;
+            if (platformTransferredFluid == 0 && canSleepAfterIdleTransfer()) {
+                wakeUpHandlers = GTTransferUtils.getNotifiableHandlers(getAdjacentFluidHandler(),
+                        getOwnFluidHandler());
+            }
         }
 
         if (timer % 20 == 0) {
@@ -227,6 +236,17 @@ public class PumpCover extends CoverBehavior implements IIOCover, IUICover, ICon
         }
 
         subscriptionHandler.updateSubscription();
+        if (wakeUpHandlers != null) {
+            // both tanks notify about their changes, so stop ticking until one of them does
+            subscriptionHandler.sleepUntilChanged(wakeUpHandlers);
+        }
+    }
+
+    /**
+     * @return if a transfer which moved nothing can only succeed once one of the tanks changes
+     */
+    protected boolean canSleepAfterIdleTransfer() {
+        return true;
     }
 
     private int doTransferFluids(int platformTransferLimit) {
@@ -343,6 +363,13 @@ public class PumpCover extends CoverBehavior implements IIOCover, IUICover, ICon
         // Do nothing in the base implementation. This is intended to be overridden by subclasses.
     }
 
+    private void onFilterChanged() {
+        configureFilter();
+        if (!isRemote()) {
+            subscriptionHandler.updateSubscription();
+        }
+    }
+
     /////////////////////////////////////
     // *** CAPABILITY OVERRIDE ***//
     /////////////////////////////////////
@@ -7,6 +7,7 @@ import com.gregtechceu.gtceu.api.cover.filter.ItemFilter;
 import com.gregtechceu.gtceu.api.cover.filter.SimpleItemFilter;
 import com.gregtechceu.gtceu.api.gui.widget.EnumSelectorWidget;
 import com.gregtechceu.gtceu.api.gui.widget.IntInputWidget;
+import com.gregtechceu.gtceu.api.transfer.item.InsertionSlotIndex;
 import com.gregtechceu.gtceu.common.cover.data.TransferMode;
 import com.gregtechceu.gtceu.common.pipelike.item.ItemNetHandler;
 
@@ -21,7 +22,6 @@ import net.minecraft.world.item.ItemStack;
 import net.minecraftforge.items.IItemHandler;
 
 import lombok.Getter;
-import lombok.Setter;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.Iterator;
@@ -43,7 +43,6 @@ public class RobotArmCover extends ConveyorCover {
 
     @Persisted
     @Getter
-    @Setter
     protected int globalTransferLimit;
     protected int itemsTransferBuffered;
 
@@ -79,6 +78,12 @@ public class RobotArmCover extends ConveyorCover {
         };
     }
 
+    @Override
+    protected boolean canSkipIdleTransfer(IItemHandler adjacent, IItemHandler self) {
+        // a buffered transfer has to keep accumulating
+        return super.canSkipIdleTransfer(adjacent, self) && itemsTransferBuffered == 0;
+    }
+
     protected int doTransferExact(IItemHandler sourceInventory, IItemHandler targetInventory, int maxTransferAmount) {
         Map<ItemStack, TypeItemInfo> sourceItemAmount = countInventoryItemsByType(sourceInventory);
 
@@ -95,12 +100,13 @@ public class RobotArmCover extends ConveyorCover {
             }
         }
 
+        InsertionSlotIndex targetSlots = new InsertionSlotIndex(targetInventory);
         int itemsTransferred = 0;
         int maxTotalTransferAmount = maxTransferAmount + itemsTransferBuffered;
         boolean notEnoughTransferRate = false;
         for (TypeItemInfo itemInfo : sourceItemAmount.values()) {
             if (maxTotalTransferAmount >= itemInfo.totalCount) {
-                boolean result = moveInventoryItemsExact(sourceInventory, targetInventory, itemInfo);
+                boolean result = moveInventoryItemsExact(sourceInventory, targetSlots, itemInfo);
                 itemsTransferred += result ? itemInfo.totalCount : 0;
                 maxTotalTransferAmount -= result ? itemInfo.totalCount : 0;
             } else {
@@ -150,6 +156,11 @@ public class RobotArmCover extends ConveyorCover {
         return filter.supportsAmounts() ? filter.testItemCount(itemStack) : globalTransferLimit;
     }
 
+    public void setGlobalTransferLimit(int globalTransferLimit) {
+        this.globalTransferLimit = globalTransferLimit;
+        subscriptionHandler.updateSubscription();
+    }
+
     public int getBuffer() {
         return itemsTransferBuffered;
     }
@@ -178,7 +189,7 @@ public class RobotArmCover extends ConveyorCover {
                 new EnumSelectorWidget<>(146, 45, 20, 20, TransferMode.values(), transferMode, this::setTransferMode));
 
         this.stackSizeInput = new IntInputWidget(64, 45, 80, 20,
-                () -> globalTransferLimit, val -> globalTransferLimit = val);
+                () -> globalTransferLimit, this::setGlobalTransferLimit);
         configureStackSizeInput();
 
         group.addWidget(this.stackSizeInput);
@@ -186,6 +197,7 @@ public class RobotArmCover extends ConveyorCover {
 
     public void setTransferMode(TransferMode transferMode) {
         this.transferMode = transferMode;
+        subscriptionHandler.updateSubscription();
 
         configureStackSizeInput();
 
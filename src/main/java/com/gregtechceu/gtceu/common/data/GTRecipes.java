@@ -44,11 +44,7 @@ public class GTRecipes {
             }
         };
 
-        ComposterRecipes.addComposterRecipes(ComposterBlock.COMPOSTABLES::put);
-
-        // Decomposition info loading
-        ItemMaterialData.reinitializeMaterialData();
-        MaterialInfoLoader.init();
+        initRecipeData();
 
         // com.gregtechceu.gtceu.data.recipe.generated.*
         for (Material material : GTCEuAPI.materialManager.getRegisteredMaterials()) {
@@ -105,6 +101,18 @@ public class GTRecipes {
         }
     }
 
+    /**
+     * Sets up the data the recipe generators read. This is also needed when the generated recipes are loaded from
+     * the cache instead.
+     */
+    public static void initRecipeData() {
+        ComposterRecipes.addComposterRecipes(ComposterBlock.COMPOSTABLES::put);
+
+        // Decomposition info loading
+        ItemMaterialData.reinitializeMaterialData();
+        MaterialInfoLoader.init();
+    }
+
     /*
      * Called on resource reload in-game, just before the above method.
      *
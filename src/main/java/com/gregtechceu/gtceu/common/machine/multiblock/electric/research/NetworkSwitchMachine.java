@@ -16,6 +16,7 @@ import net.minecraft.network.chat.Component;
 import net.minecraft.world.level.block.Block;
 
 import it.unimi.dsi.fastutil.objects.ObjectOpenHashSet;
+import it.unimi.dsi.fastutil.objects.ReferenceOpenHashSet;
 import lombok.AccessLevel;
 import lombok.Getter;
 import org.jetbrains.annotations.NotNull;
@@ -193,7 +194,7 @@ public class NetworkSwitchMachine extends DataBankMachine implements IOpticalCom
                 tickSaturated = false;
             }
 
-            Collection<IOpticalComputationProvider> bridgeSeen = new ArrayList<>(seen);
+            Collection<IOpticalComputationProvider> bridgeSeen = new ReferenceOpenHashSet<>(seen);
             int allocatedCWUt = 0;
             for (var provider : providers) {
                 if (!provider.canBridge(bridgeSeen)) continue;
@@ -212,10 +213,10 @@ public class NetworkSwitchMachine extends DataBankMachine implements IOpticalCom
         }
 
         public int getMaxCWUtForDisplay() {
-            Collection<IOpticalComputationProvider> seen = new ArrayList<>();
+            Collection<IOpticalComputationProvider> seen = new ReferenceOpenHashSet<>();
             // The max CWU/t that this Network Switch can provide, combining all its inputs.
             seen.add(this);
-            Collection<IOpticalComputationProvider> bridgeSeen = new ArrayList<>(seen);
+            Collection<IOpticalComputationProvider> bridgeSeen = new ReferenceOpenHashSet<>(seen);
             int maximumCWUt = 0;
             for (var provider : providers) {
                 if (!provider.canBridge(bridgeSeen)) continue;
@@ -228,7 +229,7 @@ public class NetworkSwitchMachine extends DataBankMachine implements IOpticalCom
             if (seen.contains(this)) return 0;
             // The max CWU/t that this Network Switch can provide, combining all its inputs.
             seen.add(this);
-            Collection<IOpticalComputationProvider> bridgeSeen = new ArrayList<>(seen);
+            Collection<IOpticalComputationProvider> bridgeSeen = new ReferenceOpenHashSet<>(seen);
             int maximumCWUt = 0;
             for (var provider : providers) {
                 if (!provider.canBridge(bridgeSeen)) continue;
@@ -251,7 +252,7 @@ public class NetworkSwitchMachine extends DataBankMachine implements IOpticalCom
 
         /** Test if any of the provider hatches do not allow bridging */
         private boolean hasNonBridgingConnections() {
-            Collection<IOpticalComputationProvider> seen = new ArrayList<>();
+            Collection<IOpticalComputationProvider> seen = new ReferenceOpenHashSet<>();
             for (var provider : providers) {
                 if (!provider.canBridge(seen)) {
                     return true;
@@ -27,13 +27,18 @@ import net.minecraft.commands.arguments.blocks.BlockStateParser;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
 import net.minecraft.core.NonNullList;
+import net.minecraft.core.SectionPos;
 import net.minecraft.core.registries.Registries;
 import net.minecraft.network.chat.Component;
 import net.minecraft.server.level.ServerLevel;
 import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.item.crafting.RecipeManager;
 import net.minecraft.world.level.Level;
+import net.minecraft.world.level.block.Block;
 import net.minecraft.world.level.block.Blocks;
 import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.chunk.LevelChunk;
+import net.minecraft.world.level.chunk.LevelChunkSection;
 import net.minecraft.world.level.storage.loot.LootParams;
 import net.minecraft.world.level.storage.loot.parameters.LootContextParams;
 import net.minecraft.world.phys.Vec3;
@@ -41,6 +46,9 @@ import net.minecraftforge.common.Tags;
 import net.minecraftforge.items.IItemHandlerModifiable;
 
 import com.mojang.brigadier.exceptions.CommandSyntaxException;
+import it.unimi.dsi.fastutil.longs.LongArrayFIFOQueue;
+import it.unimi.dsi.fastutil.objects.Reference2BooleanOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Reference2ObjectOpenHashMap;
 import lombok.Getter;
 import lombok.Setter;
 import org.jetbrains.annotations.NotNull;
@@ -67,7 +75,7 @@ public class MinerLogic extends RecipeLogic implements IRecipeCapabilityHolder {
     private final int maximumRadius;
     @Getter
     public ItemStack pickaxeTool;
-    private final LinkedList<BlockPos> blocksToMine = new LinkedList<>();
+    private final LongArrayFIFOQueue blocksToMine = new LongArrayFIFOQueue();
     @Getter
     @Persisted
     protected int x = Integer.MAX_VALUE;
@@ -120,6 +128,12 @@ public class MinerLogic extends RecipeLogic implements IRecipeCapabilityHolder {
     protected final Map<IO, Map<RecipeCapability<?>, List<IRecipeHandler<?>>>> capabilitiesFlat;
     private final ItemRecipeHandler inputItemHandler, outputItemHandler;
     private final IgnoreEnergyRecipeHandler inputEnergyHandler;
+    // the post-processing recipe of every block mined so far, null if it has none
+    private final Reference2ObjectOpenHashMap<Block, GTRecipe> postProcessingRecipes =
+            new Reference2ObjectOpenHashMap<>();
+    @Nullable
+    private RecipeManager postProcessingRecipeManager;
+    private int postProcessingTier = -1;
     @Setter
     @Getter
     private Direction dir = Direction.DOWN;
@@ -232,19 +246,21 @@ public class MinerLogic extends RecipeLogic implements IRecipeCapabilityHolder {
             // if there are blocks to mine and the correct amount of time has passed, do the mining
             if (getMachine().getOffsetTimer() % this.speed == 0 && !blocksToMine.isEmpty()) {
                 NonNullList<ItemStack> blockDrops = NonNullList.create();
-                BlockState blockState = serverLevel.getBlockState(blocksToMine.getFirst());
+                BlockPos blockPos = BlockPos.of(blocksToMine.firstLong());
+                BlockState blockState = serverLevel.getBlockState(blockPos);
 
                 // check to make sure the ore is still there,
                 while (!blockState.is(Tags.Blocks.ORES)) {
-                    blocksToMine.removeFirst();
+                    blocksToMine.dequeueLong();
                     if (blocksToMine.isEmpty()) break;
-                    blockState = serverLevel.getBlockState(blocksToMine.getFirst());
+                    blockPos = BlockPos.of(blocksToMine.firstLong());
+                    blockState = serverLevel.getBlockState(blockPos);
                 }
                 // When we are here we have an ore to mine! I'm glad we aren't threaded
                 if (!blocksToMine.isEmpty() & blockState.is(Tags.Blocks.ORES)) {
                     LootParams.Builder builder = new LootParams.Builder(serverLevel)
                             .withParameter(LootContextParams.BLOCK_STATE, blockState)
-                            .withParameter(LootContextParams.ORIGIN, Vec3.atLowerCornerOf(blocksToMine.getFirst()))
+                            .withParameter(LootContextParams.ORIGIN, Vec3.atLowerCornerOf(blockPos))
                             .withParameter(LootContextParams.TOOL, getPickaxeTool());
 
                     // get the small ore drops, if a small ore
@@ -271,7 +287,7 @@ public class MinerLogic extends RecipeLogic implements IRecipeCapabilityHolder {
                 z = mineZ;
 
                 // attempt to get more blocks to mine, if there are none, the miner is done mining
-                blocksToMine.addAll(getBlocksToMine());
+                findBlocksToMine();
                 if (blocksToMine.isEmpty()) {
                     this.isDone = true;
                     this.setStatus(Status.IDLE);
@@ -350,7 +366,22 @@ public class MinerLogic extends RecipeLogic implements IRecipeCapabilityHolder {
 
     protected boolean doPostProcessing(NonNullList<ItemStack> blockDrops, BlockState blockState,
                                        LootParams.Builder builder) {
-        ItemStack oreDrop = new ItemStack(blockState.getBlock());
+        Block block = blockState.getBlock();
+        validatePostProcessingRecipes();
+        GTRecipe recipe = postProcessingRecipes.get(block);
+        if (recipe != null) {
+            // the recipe is already known, only roll its outputs again
+            outputItemHandler.storage.clear();
+            if (RecipeHelper.handleRecipeIO(this, recipe, IO.OUT, this.chanceCaches).isSuccess()) {
+                dropPostProcessing(blockDrops, blockState, builder);
+                return true;
+            }
+            postProcessingRecipes.remove(block);
+        } else if (postProcessingRecipes.containsKey(block)) {
+            return false;
+        }
+
+        ItemStack oreDrop = new ItemStack(block);
         if (oreDrop.isEmpty()) return false;
 
         // create dummy recipe handler
@@ -366,21 +397,42 @@ public class MinerLogic extends RecipeLogic implements IRecipeCapabilityHolder {
             long eut = match.getInputEUt().getTotalEU();
             if (GTUtil.getTierByVoltage(eut) <= getVoltageTier()) {
                 if (RecipeHelper.handleRecipeIO(this, match, IO.OUT, this.chanceCaches).isSuccess()) {
-                    blockDrops.clear();
-                    var result = new ArrayList<ItemStack>();
-                    for (int i = 0; i < outputItemHandler.storage.getSlots(); ++i) {
-                        var stack = outputItemHandler.storage.getStackInSlot(i);
-                        if (stack.isEmpty()) continue;
-                        result.add(stack);
-                    }
-                    dropPostProcessing(blockDrops, result, blockState, builder);
+                    postProcessingRecipes.put(block, match);
+                    dropPostProcessing(blockDrops, blockState, builder);
                     return true;
                 }
             }
         }
+        postProcessingRecipes.put(block, null);
         return false;
     }
 
+    /**
+     * Clears the post-processing recipes if they were resolved for another voltage tier or before the recipes were
+     * reloaded.
+     */
+    private void validatePostProcessingRecipes() {
+        RecipeManager recipeManager = getMachine().getLevel().getRecipeManager();
+        int voltageTier = getVoltageTier();
+        if (recipeManager != postProcessingRecipeManager || voltageTier != postProcessingTier) {
+            postProcessingRecipes.clear();
+            postProcessingRecipeManager = recipeManager;
+            postProcessingTier = voltageTier;
+        }
+    }
+
+    private void dropPostProcessing(NonNullList<ItemStack> blockDrops, BlockState blockState,
+                                    LootParams.Builder builder) {
+        blockDrops.clear();
+        var result = new ArrayList<ItemStack>();
+        for (int i = 0; i < outputItemHandler.storage.getSlots(); ++i) {
+            var stack = outputItemHandler.storage.getStackInSlot(i);
+            if (stack.isEmpty()) continue;
+            result.add(stack);
+        }
+        dropPostProcessing(blockDrops, result, blockState, builder);
+    }
+
     protected void dropPostProcessing(NonNullList<ItemStack> blockDrops, List<ItemStack> outputs, BlockState blockState,
                                       LootParams.Builder builder) {
         blockDrops.addAll(outputs);
@@ -422,11 +474,11 @@ public class MinerLogic extends RecipeLogic implements IRecipeCapabilityHolder {
         if (handler != null) {
             if (GTTransferUtils.addItemsToItemHandler(handler, true, blockDrops)) {
                 GTTransferUtils.addItemsToItemHandler(handler, false, blockDrops);
-                world.setBlock(blocksToMine.getFirst(), findMiningReplacementBlock(world), 3);
-                mineX = blocksToMine.getFirst().getX();
-                mineZ = blocksToMine.getFirst().getZ();
-                mineY = blocksToMine.getFirst().getY();
-                blocksToMine.removeFirst();
+                BlockPos blockPos = BlockPos.of(blocksToMine.dequeueLong());
+                world.setBlock(blockPos, findMiningReplacementBlock(world), 3);
+                mineX = blockPos.getX();
+                mineZ = blockPos.getZ();
+                mineY = blockPos.getY();
                 onMineOperation();
 
                 // if the inventory was previously considered full, mark it as not since an item was able to fit
@@ -484,7 +536,7 @@ public class MinerLogic extends RecipeLogic implements IRecipeCapabilityHolder {
      */
     public void checkBlocksToMine() {
         if (blocksToMine.isEmpty())
-            blocksToMine.addAll(getBlocksToMine());
+            findBlocksToMine();
     }
 
     /**
@@ -501,13 +553,12 @@ public class MinerLogic extends RecipeLogic implements IRecipeCapabilityHolder {
     }
 
     /**
-     * Gets the blocks to mine
-     *
-     * @return a {@link LinkedList} of {@link BlockPos} for each ore to mine
+     * Adds the ores to mine to the queue, continuing from the current position.
+     * <p>
+     * Rows are read from the chunk sections directly, skipping the parts in sections whose palette holds no ores.
+     * Layers where no section of the area holds ores are skipped up to the next section.
      */
-    private LinkedList<BlockPos> getBlocksToMine() {
-        LinkedList<BlockPos> blocks = new LinkedList<>();
-
+    private void findBlocksToMine() {
         // determine how many blocks to retrieve this time
         var level = getMachine().getLevel();
         assert level != null;
@@ -521,45 +572,94 @@ public class MinerLogic extends RecipeLogic implements IRecipeCapabilityHolder {
         if (this.maxBuildHeight == Integer.MAX_VALUE)
             this.maxBuildHeight = level.getMaxBuildHeight();
 
+        int endX = startX + currentRadius * 2;
+        int endZ = startZ + currentRadius * 2;
+        Reference2BooleanOpenHashMap<LevelChunkSection> sectionsWithOres = new Reference2BooleanOpenHashMap<>();
+        BlockPos.MutableBlockPos blockPos = new BlockPos.MutableBlockPos();
+
         // keep getting blocks until the target amount is reached
         while (calculated < calcAmount) {
             // moving down the y-axis
-            if (y > minBuildHeight && y < maxBuildHeight) {
-                // moving across the z-axis
-                if (z <= startZ + currentRadius * 2) {
-                    // check every block along the x-axis
-                    if (x <= startX + currentRadius * 2) {
-                        BlockPos blockPos = new BlockPos(x, y, z);
-                        BlockState state = level.getBlockState(blockPos);
-                        if (state.getDestroySpeed(level, blockPos) >= 0 &&
-                                level.getBlockEntity(blockPos) == null &&
-                                state.is(Tags.Blocks.ORES)) {
-                            blocks.addLast(blockPos);
-                        }
-                        // move to the next x position
-                        ++x;
-                    } else {
-                        // reset x and move to the next z layer
-                        x = startX;
-                        ++z;
-                    }
+            if (y <= minBuildHeight || y >= maxBuildHeight) return;
+
+            if (z > endZ) {
+                // reset z and move to the next y layer
+                z = startZ;
+                if (dir == Direction.UP) {
+                    ++y;
                 } else {
-                    // reset z and move to the next y layer
-                    z = startZ;
-                    if (dir == Direction.UP) {
-                        ++y;
-                    } else {
-                        --y;
+                    --y;
+                }
+                continue;
+            }
+            if (x == startX && z == startZ && !layerHasOres(level, endX, endZ, sectionsWithOres)) {
+                // move to the first layer of the next section
+                int sectionY = SectionPos.blockToSectionCoord(y);
+                if (dir == Direction.UP) {
+                    y = SectionPos.sectionToBlockCoord(sectionY + 1);
+                } else {
+                    y = SectionPos.sectionToBlockCoord(sectionY) - 1;
+                }
+                continue;
+            }
+            if (x > endX) {
+                // reset x and move to the next z layer
+                x = startX;
+                ++z;
+                continue;
+            }
+
+            // check the blocks along the x-axis up to the end of the chunk
+            int rowEnd = Math.min(endX, SectionPos.sectionToBlockCoord(SectionPos.blockToSectionCoord(x), 15));
+            LevelChunkSection section = getSection(level, x, y, z);
+            if (section != null && hasOres(section, sectionsWithOres)) {
+                for (int blockX = x; blockX <= rowEnd; blockX++) {
+                    BlockState state = section.getBlockState(blockX & 15, y & 15, z & 15);
+                    if (!state.is(Tags.Blocks.ORES)) continue;
+                    blockPos.set(blockX, y, z);
+                    if (state.getDestroySpeed(level, blockPos) >= 0 && level.getBlockEntity(blockPos) == null) {
+                        blocksToMine.enqueue(blockPos.asLong());
                     }
                 }
-            } else
-                return blocks;
+            }
 
-            // only count iterations where blocks were found
-            if (!blocks.isEmpty())
-                calculated++;
+            // only count the blocks checked once blocks were found
+            if (!blocksToMine.isEmpty())
+                calculated += rowEnd - x + 1;
+            x = rowEnd + 1;
         }
-        return blocks;
+    }
+
+    private boolean layerHasOres(Level level, int endX, int endZ,
+                                 Reference2BooleanOpenHashMap<LevelChunkSection> sectionsWithOres) {
+        for (int chunkX = SectionPos.blockToSectionCoord(startX); chunkX <= SectionPos.blockToSectionCoord(endX);
+             chunkX++) {
+            for (int chunkZ = SectionPos.blockToSectionCoord(startZ);
+                 chunkZ <= SectionPos.blockToSectionCoord(endZ); chunkZ++) {
+                LevelChunkSection section = getSection(level, SectionPos.sectionToBlockCoord(chunkX), y,
+                        SectionPos.sectionToBlockCoord(chunkZ));
+                if (section != null && hasOres(section, sectionsWithOres)) return true;
+            }
+        }
+        return false;
+    }
+
+    @Nullable
+    private static LevelChunkSection getSection(Level level, int x, int y, int z) {
+        LevelChunk chunk = level.getChunk(SectionPos.blockToSectionCoord(x), SectionPos.blockToSectionCoord(z));
+        int index = chunk.getSectionIndex(y);
+        if (index < 0 || index >= chunk.getSectionsCount()) return null;
+        return chunk.getSection(index);
+    }
+
+    private static boolean hasOres(LevelChunkSection section,
+                                   Reference2BooleanOpenHashMap<LevelChunkSection> sectionsWithOres) {
+        if (section.hasOnlyAir()) return false;
+        if (sectionsWithOres.containsKey(section)) return sectionsWithOres.getBoolean(section);
+        // the palette may hold states which aren't in the section anymore, but never misses one that is
+        boolean hasOres = section.maybeHas(state -> state.is(Tags.Blocks.ORES));
+        sectionsWithOres.put(section, hasOres);
+        return hasOres;
     }
 
     /**
@@ -1,19 +1,26 @@
 package com.gregtechceu.gtceu.common.pipelike.cable;
 
+import com.gregtechceu.gtceu.api.capability.forge.GTCapability;
 import com.gregtechceu.gtceu.api.data.chemical.material.properties.WireProperties;
+import com.gregtechceu.gtceu.api.pipenet.IPipeNode;
 import com.gregtechceu.gtceu.api.pipenet.LevelPipeNet;
 import com.gregtechceu.gtceu.api.pipenet.Node;
 import com.gregtechceu.gtceu.api.pipenet.PipeNet;
+import com.gregtechceu.gtceu.common.blockentity.CableBlockEntity;
+import com.gregtechceu.gtceu.utils.GTUtil;
 
 import net.minecraft.core.BlockPos;
+import net.minecraft.core.Direction;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.world.level.Level;
+import net.minecraft.world.level.block.entity.BlockEntity;
 
 import java.util.*;
 
 public class EnergyNet extends PipeNet<WireProperties> {
 
-    private final Map<BlockPos, List<EnergyRoutePath>> NET_DATA = new HashMap<>();
+    private final Map<BlockPos, EnergyRouteTable> NET_DATA = new HashMap<>();
+    private final EnergyNetLedger ledger = new EnergyNetLedger();
 
     private long lastEnergyFluxPerSec;
     private long energyFluxPerSec;
@@ -23,23 +30,52 @@ public class EnergyNet extends PipeNet<WireProperties> {
         super(world);
     }
 
+    public EnergyNetLedger getLedger() {
+        return ledger;
+    }
+
     public List<EnergyRoutePath> getNetData(BlockPos pipePos) {
-        List<EnergyRoutePath> data = NET_DATA.get(pipePos);
+        EnergyRouteTable data = NET_DATA.get(pipePos);
         if (data == null) {
             data = EnergyNetWalker.createNetData(this, pipePos);
             if (data == null) {
                 // walker failed, don't cache so it tries again on next insertion
                 return Collections.emptyList();
             }
-            data.sort(Comparator.comparingInt(EnergyRoutePath::getDistance));
             NET_DATA.put(pipePos, data);
         }
-        return data;
+        return data.getRoutes();
     }
 
+    /**
+     * Only the routes ending next to {@code fromPos} can change when a block that is not a pipe changes,
+     * so those are added to or removed from the cached routes instead of walking the net again.
+     */
     @Override
     public void onNeighbourUpdate(BlockPos fromPos) {
-        NET_DATA.clear();
+        if (NET_DATA.isEmpty()) return;
+        Level level = getLevel();
+        BlockEntity neighbour = level.getBlockEntity(fromPos);
+        if (containsNode(fromPos) || neighbour instanceof IPipeNode<?, ?>) {
+            // pipes can change the walked paths themselves
+            NET_DATA.clear();
+            return;
+        }
+        for (Direction side : GTUtil.DIRECTIONS) {
+            BlockPos pipePos = fromPos.relative(side);
+            if (!containsNode(pipePos)) continue;
+            Direction facing = side.getOpposite();
+            boolean hasContainer = neighbour != null &&
+                    level.getBlockEntity(pipePos) instanceof CableBlockEntity cable && cable.isConnected(facing) &&
+                    neighbour.getCapability(GTCapability.CAPABILITY_ENERGY_CONTAINER, side).isPresent();
+            for (EnergyRouteTable table : NET_DATA.values()) {
+                if (hasContainer) {
+                    table.addRoute(pipePos, facing);
+                } else {
+                    table.removeRoute(pipePos, facing);
+                }
+            }
+        }
     }
 
     @Override
@@ -47,6 +83,17 @@ public class EnergyNet extends PipeNet<WireProperties> {
         NET_DATA.clear();
     }
 
+    @Override
+    protected void onNodeConnectionsUpdate() {
+        super.onNodeConnectionsUpdate();
+        NET_DATA.clear();
+    }
+
+    @Override
+    protected void onNodeDataUpdate() {
+        NET_DATA.clear();
+    }
+
     @Override
     protected void transferNodeData(Map<BlockPos, Node<WireProperties>> transferredNodes,
                                     PipeNet<WireProperties> parentNet) {
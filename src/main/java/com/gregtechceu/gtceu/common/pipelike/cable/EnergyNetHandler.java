@@ -67,21 +67,24 @@ public class EnergyNetHandler implements IEnergyContainer {
 
             long pathVoltage = voltage - path.getMaxLoss();
             boolean cableBroken = false;
-            for (CableBlockEntity cable : path.getPath()) {
-                if (cable.getMaxVoltage() < voltage) {
-                    int heat = (int) (Math.log(
-                            GTUtil.getTierByVoltage(voltage) - GTUtil.getTierByVoltage(cable.getMaxVoltage())) *
-                            45 + 36.5);
-                    cable.applyHeat(heat);
-
-                    cableBroken = cable.isInValid();
-                    if (cableBroken) {
-                        // a cable burned away (or insulation melted)
-                        break;
+            // only walk the path if one of its cables can't handle the voltage
+            if (path.getMinVoltage() < voltage) {
+                for (CableBlockEntity cable : path.getPath()) {
+                    if (cable.getMaxVoltage() < voltage) {
+                        int heat = (int) (Math.log(
+                                GTUtil.getTierByVoltage(voltage) - GTUtil.getTierByVoltage(cable.getMaxVoltage())) *
+                                45 + 36.5);
+                        cable.applyHeat(heat);
+
+                        cableBroken = cable.isInValid();
+                        if (cableBroken) {
+                            // a cable burned away (or insulation melted)
+                            break;
+                        }
+
+                        // limit transfer to cables max and void rest
+                        pathVoltage = Math.min(cable.getMaxVoltage(), pathVoltage);
                     }
-
-                    // limit transfer to cables max and void rest
-                    pathVoltage = Math.min(cable.getMaxVoltage(), pathVoltage);
                 }
             }
 
@@ -93,13 +96,15 @@ public class EnergyNetHandler implements IEnergyContainer {
             if (amps == 0) continue;
 
             amperesUsed += amps;
-            long voltageTraveled = voltage;
-            for (CableBlockEntity cable : path.getPath()) {
-                voltageTraveled -= cable.getNodeData().getLossPerBlock();
+            EnergyNetLedger ledger = net.getLedger();
+            CableBlockEntity[] cables = path.getPath();
+            long[] accumulatedLoss = path.getAccumulatedLoss();
+            for (int i = 0; i < cables.length; i++) {
+                long voltageTraveled = voltage - accumulatedLoss[i];
                 if (voltageTraveled <= 0) break;
 
-                if (!cable.isInValid()) {
-                    cable.incrementAmperage(amps, voltageTraveled);
+                if (!cables[i].isInValid()) {
+                    ledger.add(net.getLevel(), cables[i], amps, voltageTraveled);
                 }
             }
 
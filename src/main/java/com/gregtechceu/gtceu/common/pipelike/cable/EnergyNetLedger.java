@@ -0,0 +1,122 @@
+package com.gregtechceu.gtceu.common.pipelike.cable;
+
+import com.gregtechceu.gtceu.common.blockentity.CableBlockEntity;
+import com.gregtechceu.gtceu.utils.GTMath;
+
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.level.Level;
+
+import it.unimi.dsi.fastutil.objects.Reference2IntOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ReferenceOpenHashSet;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Collects the load carried by the cables of an {@link EnergyNet} during a tick, and applies it to the cables in a
+ * single pass at the end of the tick.
+ * <p>
+ * Cables get an index the first time they carry energy in a tick, and their amperage, voltage and overload heat are
+ * accumulated in primitive arrays by that index.
+ * The overload heat is accumulated for every insertion from the amperage carried so far in the tick, the same way it
+ * was applied to the cable directly, so cables overheat and burn exactly as before.
+ */
+public class EnergyNetLedger {
+
+    private static final Map<ResourceKey<Level>, Set<EnergyNetLedger>> pendingLedgers = new HashMap<>();
+
+    private final Reference2IntOpenHashMap<CableBlockEntity> indices = new Reference2IntOpenHashMap<>();
+    private CableBlockEntity[] cables = new CableBlockEntity[16];
+    private long[] maxAmperage = new long[16];
+    private long[] amperage = new long[16];
+    private long[] voltageAmperage = new long[16];
+    private long[] maxVoltage = new long[16];
+    private long[] overloadHeat = new long[16];
+    private int size;
+
+    public EnergyNetLedger() {
+        indices.defaultReturnValue(-1);
+    }
+
+    /**
+     * Records the amperage a cable carried.
+     *
+     * @param level   the level of the cable
+     * @param cable   the cable
+     * @param amps    the amperage carried
+     * @param voltage the voltage at the cable
+     */
+    public void add(ServerLevel level, CableBlockEntity cable, long amps, long voltage) {
+        int index = indices.getInt(cable);
+        if (index == -1) {
+            if (size == 0) {
+                pendingLedgers.computeIfAbsent(level.dimension(), key -> new ReferenceOpenHashSet<>()).add(this);
+            }
+            index = size++;
+            ensureCapacity(size);
+            indices.put(cable, index);
+            cables[index] = cable;
+            maxAmperage[index] = cable.getMaxAmperage();
+            amperage[index] = 0;
+            voltageAmperage[index] = 0;
+            maxVoltage[index] = 0;
+            overloadHeat[index] = 0;
+        }
+
+        if (voltage > maxVoltage[index]) {
+            maxVoltage[index] = voltage;
+        }
+        voltageAmperage[index] += voltage * amps;
+        amperage[index] += amps;
+
+        int dif = GTMath.saturatedCast(amperage[index] - maxAmperage[index]);
+        if (dif > 0) {
+            overloadHeat[index] += dif * 40;
+        }
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity <= cables.length) return;
+        int length = Math.max(capacity, cables.length * 2);
+        cables = Arrays.copyOf(cables, length);
+        maxAmperage = Arrays.copyOf(maxAmperage, length);
+        amperage = Arrays.copyOf(amperage, length);
+        voltageAmperage = Arrays.copyOf(voltageAmperage, length);
+        maxVoltage = Arrays.copyOf(maxVoltage, length);
+        overloadHeat = Arrays.copyOf(overloadHeat, length);
+    }
+
+    /**
+     * Applies the recorded load to the cables, and resets the ledger.
+     */
+    public void flush() {
+        for (int i = 0; i < size; i++) {
+            CableBlockEntity cable = cables[i];
+            cables[i] = null;
+            if (!cable.isInValid()) {
+                cable.applyTickLoad(amperage[i], voltageAmperage[i], maxVoltage[i],
+                        GTMath.saturatedCast(overloadHeat[i]));
+            }
+        }
+        indices.clear();
+        size = 0;
+    }
+
+    // schedule tick event here
+    public static void onTickUpdate(ServerLevel level) {
+        var ledgers = pendingLedgers.get(level.dimension());
+        if (ledgers == null || ledgers.isEmpty()) return;
+        for (var ledger : ledgers) {
+            ledger.flush();
+        }
+        ledgers.clear();
+    }
+
+    // clean up here
+    public static void onWorldUnLoad(ServerLevel level) {
+        pendingLedgers.remove(level.dimension());
+    }
+}
@@ -15,16 +15,14 @@ import org.apache.commons.lang3.ArrayUtils;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-import java.util.ArrayList;
-import java.util.List;
-
 public class EnergyNetWalker extends PipeNetWalker<CableBlockEntity, WireProperties, EnergyNet> {
 
     @Nullable
-    public static List<EnergyRoutePath> createNetData(EnergyNet pipeNet, BlockPos sourcePipe) {
+    public static EnergyRouteTable createNetData(EnergyNet pipeNet, BlockPos sourcePipe) {
         try {
-            EnergyNetWalker walker = new EnergyNetWalker(pipeNet, sourcePipe, 1, new ArrayList<>());
+            EnergyNetWalker walker = new EnergyNetWalker(pipeNet, sourcePipe, 1, new EnergyRouteTable());
             walker.traversePipeNet();
+            walker.routes.sort();
             return walker.routes;
         } catch (Exception e) {
             GTCEu.LOGGER.error("error while create net data for energynet", e);
@@ -32,11 +30,11 @@ public class EnergyNetWalker extends PipeNetWalker<CableBlockEntity, WirePropert
         return null;
     }
 
-    private final List<EnergyRoutePath> routes;
+    private final EnergyRouteTable routes;
     private CableBlockEntity[] pipes = {};
     private int loss;
 
-    public EnergyNetWalker(EnergyNet pipeNet, BlockPos sourcePipe, int walkedBlocks, List<EnergyRoutePath> routes) {
+    public EnergyNetWalker(EnergyNet pipeNet, BlockPos sourcePipe, int walkedBlocks, EnergyRouteTable routes) {
         super(pipeNet, sourcePipe, walkedBlocks);
         this.routes = routes;
     }
@@ -57,6 +55,7 @@ public class EnergyNetWalker extends PipeNetWalker<CableBlockEntity, WirePropert
     protected void checkPipe(CableBlockEntity pipeTile, BlockPos pos) {
         pipes = ArrayUtils.add(pipes, pipeTile);
         loss += pipeTile.getNodeData().getLossPerBlock();
+        routes.addPipe(pos, pipes, getWalkedBlocks(), loss);
     }
 
     @Override
@@ -71,7 +70,8 @@ public class EnergyNetWalker extends PipeNetWalker<CableBlockEntity, WirePropert
                     .getCapability(GTCapability.CAPABILITY_ENERGY_CONTAINER, faceToNeighbour.getOpposite()).resolve()
                     .orElse(null);
             if (container != null) {
-                routes.add(new EnergyRoutePath(pipePos.immutable(), faceToNeighbour, pipes, getWalkedBlocks(), loss));
+                routes.addRoute(
+                        new EnergyRoutePath(pipePos.immutable(), faceToNeighbour, pipes, getWalkedBlocks(), loss));
             }
         }
     }
@@ -25,6 +25,16 @@ public class EnergyRoutePath implements IRoutePath<IEnergyContainer> {
     private final CableBlockEntity[] path;
     @Getter
     private final long maxLoss;
+    /**
+     * The lowest max voltage of all cables of the path
+     */
+    @Getter
+    private final long minVoltage;
+    /**
+     * The loss accumulated up to and including each cable of the path
+     */
+    @Getter
+    private final long[] accumulatedLoss;
 
     public EnergyRoutePath(BlockPos targetPipePos, Direction targetFacing, CableBlockEntity[] path, int distance,
                            long maxLoss) {
@@ -34,6 +44,16 @@ public class EnergyRoutePath implements IRoutePath<IEnergyContainer> {
         this.path = path;
         this.distance = distance;
         this.maxLoss = maxLoss;
+
+        long minVoltage = Long.MAX_VALUE;
+        long loss = 0;
+        this.accumulatedLoss = new long[path.length];
+        for (int i = 0; i < path.length; i++) {
+            minVoltage = Math.min(minVoltage, path[i].getMaxVoltage());
+            loss += path[i].getNodeData().getLossPerBlock();
+            accumulatedLoss[i] = loss;
+        }
+        this.minVoltage = minVoltage;
     }
 
     @Nullable
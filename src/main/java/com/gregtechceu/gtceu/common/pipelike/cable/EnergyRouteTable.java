@@ -0,0 +1,101 @@
+package com.gregtechceu.gtceu.common.pipelike.cable;
+
+import com.gregtechceu.gtceu.common.blockentity.CableBlockEntity;
+
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.Direction;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * The routes from one source pipe of an {@link EnergyNet} to all connected energy containers.
+ * <p>
+ * Besides the routes, the table remembers the walked path to every pipe the walker reached, so a route can be added or
+ * removed when an energy container appears or disappears next to a pipe, without walking the net again.
+ * Routes are ordered by distance, then by the order the walker reached their pipe, then by facing, which is the same
+ * order a fresh walk produces.
+ */
+public class EnergyRouteTable {
+
+    private final Long2ObjectOpenHashMap<PipePath> pipes = new Long2ObjectOpenHashMap<>();
+    @Getter
+    private final List<EnergyRoutePath> routes = new ArrayList<>();
+
+    private final Comparator<EnergyRoutePath> routeOrder = Comparator
+            .comparingInt(EnergyRoutePath::getDistance)
+            .thenComparingInt(route -> pipes.get(route.getTargetPipePos().asLong()).visitIndex)
+            .thenComparingInt(route -> route.getTargetFacing().ordinal());
+
+    void addPipe(BlockPos pos, CableBlockEntity[] path, int distance, long loss) {
+        pipes.put(pos.asLong(), new PipePath(path, distance, loss, pipes.size()));
+    }
+
+    void addRoute(EnergyRoutePath route) {
+        routes.add(route);
+    }
+
+    void sort() {
+        routes.sort(routeOrder);
+    }
+
+    public boolean containsPipe(BlockPos pipePos) {
+        return pipes.containsKey(pipePos.asLong());
+    }
+
+    public boolean hasRoute(BlockPos pipePos, Direction facing) {
+        return indexOf(pipePos, facing) >= 0;
+    }
+
+    /**
+     * Adds the route to an energy container which is now next to an already walked pipe.
+     *
+     * @return if a route was added
+     */
+    public boolean addRoute(BlockPos pipePos, Direction facing) {
+        PipePath pipe = pipes.get(pipePos.asLong());
+        if (pipe == null || hasRoute(pipePos, facing)) return false;
+        EnergyRoutePath route = new EnergyRoutePath(pipePos.immutable(), facing, pipe.path, pipe.distance,
+                pipe.loss);
+        int index = Collections.binarySearch(routes, route, routeOrder);
+        routes.add(index < 0 ? -index - 1 : index, route);
+        return true;
+    }
+
+    /**
+     * Removes the route to an energy container which is no longer next to a pipe.
+     *
+     * @return if a route was removed
+     */
+    public boolean removeRoute(BlockPos pipePos, Direction facing) {
+        int index = indexOf(pipePos, facing);
+        if (index < 0) return false;
+        routes.remove(index);
+        return true;
+    }
+
+    private int indexOf(BlockPos pipePos, Direction facing) {
+        PipePath pipe = pipes.get(pipePos.asLong());
+        if (pipe == null) return -1;
+        // routes are sorted by distance first, so only the routes of the same distance have to be checked
+        int low = 0, high = routes.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (routes.get(mid).getDistance() < pipe.distance) low = mid + 1;
+            else high = mid;
+        }
+        for (int i = low; i < routes.size(); i++) {
+            EnergyRoutePath route = routes.get(i);
+            if (route.getDistance() != pipe.distance) break;
+            if (route.getTargetFacing() == facing && route.getTargetPipePos().equals(pipePos)) return i;
+        }
+        return -1;
+    }
+
+    private record PipePath(CableBlockEntity[] path, int distance, long loss, int visitIndex) {}
+}
@@ -41,6 +41,10 @@ public class ItemNetHandler implements IItemHandlerModifiable {
     @Getter
     private final Direction facing;
     private final Object2IntOpenHashMap<FacingPos> simulatedTransfersGlobalRoundRobin = new Object2IntOpenHashMap<>();
+    /**
+     * If {@link #simulatedTransfersGlobalRoundRobin} holds a copy of the pipe's transfers for the current insertion
+     */
+    private boolean simulatedTransfersCopied = false;
     private int simulatedTransfers = 0;
 
     public ItemNetHandler(ItemPipeNet net, ItemPipeBlockEntity pipe, Direction facing) {
@@ -60,8 +64,8 @@ public class ItemNetHandler implements IItemHandlerModifiable {
         }
 
         simulatedTransfers = pipe.getTransferredItems();
-        simulatedTransfersGlobalRoundRobin.clear();
-        simulatedTransfersGlobalRoundRobin.putAll(pipe.getTransferred());
+        // only copied once a round-robin distribution is simulated
+        simulatedTransfersCopied = false;
 
         CoverBehavior pipeCover = pipe.getCoverContainer().getCoverAtSide(facing);
         CoverBehavior tileCover = getCoverOnNeighbour(pipe.getPipePos(), facing);
@@ -75,15 +79,14 @@ public class ItemNetHandler implements IItemHandlerModifiable {
         if (pipeCover instanceof ConveyorCover pipeConveyor) conveyor = pipeConveyor;
         if (tileCover instanceof ConveyorCover tileConveyor) conveyor = tileConveyor;
 
-        List<ItemRoutePath> routePaths = network.getNetData(pipe.getPipePos(), facing, ItemRoutePathSet.FULL);
-        if (routePaths.isEmpty()) return stack;
-        List<ItemRoutePath> routePathsCopy = new ArrayList<>(routePaths);
+        ItemRoutePath[] routePaths = network.getNetData(pipe.getPipePos(), facing, ItemRoutePathSet.FULL);
+        if (routePaths.length == 0) return stack;
 
-        if (conveyor == null) return distributeHighestPriority(routePathsCopy, stack, simulate);
+        if (conveyor == null) return distributeHighestPriority(routePaths, stack, simulate);
 
         switch (conveyor.getDistributionMode()) {
-            case INSERT_FIRST -> stack = distributeHighestPriority(routePathsCopy, stack, simulate);
-            case ROUND_ROBIN_GLOBAL -> stack = distributeEqually(routePathsCopy, stack, simulate);
+            case INSERT_FIRST -> stack = distributeHighestPriority(routePaths, stack, simulate);
+            case ROUND_ROBIN_GLOBAL -> stack = distributeEqually(routePaths, stack, simulate);
             case ROUND_ROBIN_PRIO -> stack = distributeEquallyNoRestrictive(stack, simulate);
         }
 
@@ -97,8 +100,8 @@ public class ItemNetHandler implements IItemHandlerModifiable {
     /**
      * Distributes items to handlers, attempting to fill handlers with a higher priority first
      */
-    private ItemStack distributeHighestPriority(List<ItemRoutePath> copy, ItemStack stack, boolean simulate) {
-        for (ItemRoutePath inv : copy) {
+    private ItemStack distributeHighestPriority(ItemRoutePath[] routePaths, ItemStack stack, boolean simulate) {
+        for (ItemRoutePath inv : routePaths) {
             stack = insertIntoTarget(inv, stack, simulate, false);
             if (stack.isEmpty()) return ItemStack.EMPTY;
         }
@@ -108,7 +111,7 @@ public class ItemNetHandler implements IItemHandlerModifiable {
     /**
      * Distributes items evenly to multiple handlers. Attempts to exclude handlers that are behind Restrictive Pipes,
      * unless no other routes are available.
-     * Does not take in a list of routes, pulls a copy of the routes if it needs it
+     * Does not take in a list of routes, pulls the routes if it needs them
      *
      * @param stack    the {@link ItemStack} to insert
      * @param simulate
@@ -117,19 +120,19 @@ public class ItemNetHandler implements IItemHandlerModifiable {
     private ItemStack distributeEquallyNoRestrictive(ItemStack stack,
                                                      boolean simulate) {
         // Round-robin distribute to all non-Restrictive destinations
-        List<ItemRoutePath> routePathsNonRestrictedCopy = new ArrayList<>(
-                network.getNetData(pipe.getPipePos(), facing, ItemRoutePathSet.NONRESTRICTED));
+        ItemRoutePath[] routePathsNonRestricted = network.getNetData(pipe.getPipePos(), facing,
+                ItemRoutePathSet.NONRESTRICTED);
         ItemStack remainsNonRestricted;
-        if (routePathsNonRestrictedCopy.isEmpty()) {
+        if (routePathsNonRestricted.length == 0) {
             remainsNonRestricted = stack;
         } else {
-            remainsNonRestricted = distributeEqually(routePathsNonRestrictedCopy, stack, simulate);
+            remainsNonRestricted = distributeEqually(routePathsNonRestricted, stack, simulate);
         }
         // if anything is left, distribute to Restrictive destinations
         if (!remainsNonRestricted.isEmpty()) {
-            List<ItemRoutePath> routePathsRestrictiveCopy = new ArrayList<>(
-                    network.getNetData(pipe.getPipePos(), facing, ItemRoutePathSet.RESTRICTED));
-            return distributeEqually(routePathsRestrictiveCopy, remainsNonRestricted, simulate);
+            ItemRoutePath[] routePathsRestrictive = network.getNetData(pipe.getPipePos(), facing,
+                    ItemRoutePathSet.RESTRICTED);
+            return distributeEqually(routePathsRestrictive, remainsNonRestricted, simulate);
         } else {
             return ItemStack.EMPTY;
         }
@@ -138,19 +141,19 @@ public class ItemNetHandler implements IItemHandlerModifiable {
     /**
      * Equally distributes items to all handlers.
      *
-     * @param copy     to insert to
-     * @param stack    to insert
-     * @param simulate simulate
+     * @param routePaths to insert to
+     * @param stack      to insert
+     * @param simulate   simulate
      * @return remainder
      */
-    private ItemStack distributeEqually(List<ItemRoutePath> copy, ItemStack stack, boolean simulate) {
+    private ItemStack distributeEqually(ItemRoutePath[] routePaths, ItemStack stack, boolean simulate) {
         List<EnhancedRoundRobinData> transferred = new ArrayList<>();
         IntList steps = new IntArrayList();
         int min = Integer.MAX_VALUE;
         ItemStack simStack;
 
         // find inventories that are not full and get the amount that was inserted in total
-        for (ItemRoutePath inv : copy) {
+        for (ItemRoutePath inv : routePaths) {
             simStack = stack.copy();
             int ins = stack.getCount() - insertIntoTarget(inv, simStack, true, true).getCount();
             if (ins <= 0)
@@ -400,6 +403,7 @@ public class ItemNetHandler implements IItemHandlerModifiable {
 
     private void transferTo(ItemRoutePath handler, boolean simulate, int amount) {
         if (simulate) {
+            copySimulatedTransfers();
             simulatedTransfersGlobalRoundRobin.addTo(handler.toFacingPos(), amount);
         } else {
             pipe.getTransferred().mergeInt(handler.toFacingPos(), amount, Integer::sum);
@@ -408,12 +412,21 @@ public class ItemNetHandler implements IItemHandlerModifiable {
 
     private int didTransferTo(ItemRoutePath handler, boolean simulate) {
         if (simulate) {
+            copySimulatedTransfers();
             return simulatedTransfersGlobalRoundRobin.getOrDefault(handler.toFacingPos(), 0);
         } else {
             return pipe.getTransferred().getOrDefault(handler.toFacingPos(), 0);
         }
     }
 
+    private void copySimulatedTransfers() {
+        if (!simulatedTransfersCopied) {
+            simulatedTransfersCopied = true;
+            simulatedTransfersGlobalRoundRobin.clear();
+            simulatedTransfersGlobalRoundRobin.putAll(pipe.getTransferred());
+        }
+    }
+
     private void decrementBy(int amount) {
         for (var entry : pipe.getTransferred().object2IntEntrySet()) {
             entry.setValue(entry.getIntValue() - amount);
@@ -4,35 +4,37 @@ import com.gregtechceu.gtceu.api.data.chemical.material.properties.ItemPipePrope
 import com.gregtechceu.gtceu.api.pipenet.LevelPipeNet;
 import com.gregtechceu.gtceu.api.pipenet.Node;
 import com.gregtechceu.gtceu.api.pipenet.PipeNet;
+import com.gregtechceu.gtceu.utils.GTUtil;
 
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
 import net.minecraft.nbt.CompoundTag;
 
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+
 import java.util.*;
 
 public class ItemPipeNet extends PipeNet<ItemPipeProperties> {
 
-    private final Map<BlockPos, List<ItemRoutePath>> NET_DATA = new HashMap<>();
-    private final Map<BlockPos, List<ItemRoutePath>> NET_DATA_NO_RESTRICTIVE = new HashMap<>();
-    private final Map<BlockPos, List<ItemRoutePath>> NET_DATA_ONLY_RESTRICTIVE = new HashMap<>();
+    private final Long2ObjectOpenHashMap<ItemRoutes[]> NET_DATA = new Long2ObjectOpenHashMap<>();
 
     public ItemPipeNet(LevelPipeNet<ItemPipeProperties, ? extends PipeNet<ItemPipeProperties>> world) {
         super(world);
     }
 
-    public List<ItemRoutePath> getNetData(BlockPos pipePos, Direction facing, ItemRoutePathSet ITEMNETSET) {
-        List<ItemRoutePath> data = switch (ITEMNETSET) {
-            case FULL -> NET_DATA.get(pipePos);
-            case NONRESTRICTED -> NET_DATA_NO_RESTRICTIVE.get(pipePos);
-            case RESTRICTED -> NET_DATA_ONLY_RESTRICTIVE.get(pipePos);
-        };
+    /**
+     * Gets the routes from a pipe's handler to all reachable inventories, sorted by priority.
+     * The returned array is shared and must not be modified.
+     */
+    public ItemRoutePath[] getNetData(BlockPos pipePos, Direction facing, ItemRoutePathSet ITEMNETSET) {
+        ItemRoutes[] byFacing = NET_DATA.get(pipePos.asLong());
+        ItemRoutes routes = byFacing == null ? null : byFacing[facing.ordinal()];
 
-        if (data == null) {
-            data = ItemNetWalker.createNetData(this, pipePos, facing);
+        if (routes == null) {
+            List<ItemRoutePath> data = ItemNetWalker.createNetData(this, pipePos, facing);
             if (data == null) {
                 // walker failed, don't cache so it tries again on next insertion
-                return Collections.emptyList();
+                return ItemRoutes.NO_ROUTES;
             }
             data.sort(Comparator.comparingInt(inv -> inv.getProperties().getPriority()));
 
@@ -48,17 +50,20 @@ public class ItemPipeNet extends PipeNet<ItemPipeProperties> {
                 }
             }
 
-            NET_DATA.put(pipePos, data);
-            NET_DATA_NO_RESTRICTIVE.put(pipePos, nonRestricted);
-            NET_DATA_ONLY_RESTRICTIVE.put(pipePos, restricted);
-
-            data = switch (ITEMNETSET) {
-                case FULL -> NET_DATA.get(pipePos);
-                case NONRESTRICTED -> NET_DATA_NO_RESTRICTIVE.get(pipePos);
-                case RESTRICTED -> NET_DATA_ONLY_RESTRICTIVE.get(pipePos);
-            };
+            routes = new ItemRoutes(data.toArray(ItemRoutePath[]::new),
+                    nonRestricted.toArray(ItemRoutePath[]::new),
+                    restricted.toArray(ItemRoutePath[]::new));
+            if (byFacing == null) {
+                byFacing = new ItemRoutes[GTUtil.DIRECTIONS.length];
+                NET_DATA.put(pipePos.asLong(), byFacing);
+            }
+            byFacing[facing.ordinal()] = routes;
         }
-        return data;
+        return switch (ITEMNETSET) {
+            case FULL -> routes.full;
+            case NONRESTRICTED -> routes.nonRestricted;
+            case RESTRICTED -> routes.restricted;
+        };
     }
 
     @Override
@@ -68,8 +73,6 @@ public class ItemPipeNet extends PipeNet<ItemPipeProperties> {
 
     private void clearNetData() {
         NET_DATA.clear();
-        NET_DATA_ONLY_RESTRICTIVE.clear();
-        NET_DATA_NO_RESTRICTIVE.clear();
     }
 
     @Override
@@ -95,4 +98,9 @@ public class ItemPipeNet extends PipeNet<ItemPipeProperties> {
     protected ItemPipeProperties readNodeData(CompoundTag tagCompound) {
         return new ItemPipeProperties(tagCompound.getInt("Resistance"), tagCompound.getFloat("Rate"));
     }
+
+    private record ItemRoutes(ItemRoutePath[] full, ItemRoutePath[] nonRestricted, ItemRoutePath[] restricted) {
+
+        private static final ItemRoutePath[] NO_ROUTES = new ItemRoutePath[0];
+    }
 }
@@ -33,6 +33,7 @@ public class ItemRoutePath implements IRoutePath<IItemHandler> {
     private final Predicate<ItemStack> filters;
     @Getter
     private final boolean restrictive;
+    private final FacingPos facingPos;
 
     public ItemRoutePath(ItemPipeBlockEntity targetPipe, @NotNull Direction facing, int distance,
                          ItemPipeProperties properties, boolean restrictive,
@@ -47,6 +48,7 @@ public class ItemRoutePath implements IRoutePath<IItemHandler> {
                 if (!filter.test(stack)) return false;
             return true;
         };
+        this.facingPos = new FacingPos(targetPipe.getPipePos(), facing);
     }
 
     @Override
@@ -64,6 +66,6 @@ public class ItemRoutePath implements IRoutePath<IItemHandler> {
     }
 
     public FacingPos toFacingPos() {
-        return new FacingPos(getTargetPipePos(), targetFacing);
+        return facingPos;
     }
 }
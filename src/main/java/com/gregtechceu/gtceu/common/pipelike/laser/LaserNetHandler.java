@@ -7,6 +7,7 @@ import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
 import net.minecraft.world.level.Level;
 
+import it.unimi.dsi.fastutil.longs.LongIterator;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
@@ -29,8 +30,9 @@ public class LaserNetHandler implements ILaserContainer {
     }
 
     private void setPipesActive() {
-        for (BlockPos pos : net.getAllNodes().keySet()) {
-            if (world.getBlockEntity(pos) instanceof LaserPipeBlockEntity laserPipe) {
+        BlockPos.MutableBlockPos pos = new BlockPos.MutableBlockPos();
+        for (LongIterator iterator = net.getAllNodePositions().iterator(); iterator.hasNext();) {
+            if (world.getBlockEntity(pos.set(iterator.nextLong())) instanceof LaserPipeBlockEntity laserPipe) {
                 laserPipe.setActive(true, 100);
             }
         }
@@ -6,7 +6,6 @@ import com.gregtechceu.gtceu.api.capability.IOpticalDataAccessHatch;
 import com.gregtechceu.gtceu.api.recipe.GTRecipe;
 import com.gregtechceu.gtceu.common.blockentity.OpticalPipeBlockEntity;
 
-import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
 import net.minecraft.world.level.Level;
 
@@ -67,11 +66,7 @@ public class OpticalNetHandler implements IDataAccessHatch, IOpticalComputationP
     }
 
     private void setPipesActive() {
-        for (BlockPos pos : net.getAllNodes().keySet()) {
-            if (world.getBlockEntity(pos) instanceof OpticalPipeBlockEntity opticalPipe) {
-                opticalPipe.setActive(true, 100);
-            }
-        }
+        net.setPipesActive(world);
     }
 
     private boolean isNetInvalidForTraversal() {
@@ -3,19 +3,27 @@ package com.gregtechceu.gtceu.common.pipelike.optical;
 import com.gregtechceu.gtceu.api.pipenet.LevelPipeNet;
 import com.gregtechceu.gtceu.api.pipenet.Node;
 import com.gregtechceu.gtceu.api.pipenet.PipeNet;
+import com.gregtechceu.gtceu.common.blockentity.OpticalPipeBlockEntity;
 
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
 import net.minecraft.nbt.CompoundTag;
+import net.minecraft.world.level.Level;
 
+import it.unimi.dsi.fastutil.longs.LongIterator;
 import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 
 public class OpticalPipeNet extends PipeNet<OpticalPipeProperties> {
 
     private final Map<BlockPos, OpticalRoutePath> NET_DATA = new Object2ObjectOpenHashMap<>();
+    @Nullable
+    private List<OpticalPipeBlockEntity> pipes;
+    private long lastActiveTime = Long.MIN_VALUE;
 
     public OpticalPipeNet(LevelPipeNet<OpticalPipeProperties, ? extends PipeNet<OpticalPipeProperties>> world) {
         super(world);
@@ -36,6 +44,45 @@ public class OpticalPipeNet extends PipeNet<OpticalPipeProperties> {
         return data;
     }
 
+    /**
+     * Marks every pipe of the net active. Does nothing if they were already marked this tick, so any amount of
+     * requests through the net only visit its pipes once per tick.
+     *
+     * @param level the level of the net
+     */
+    public void setPipesActive(Level level) {
+        long gameTime = level.getGameTime();
+        if (gameTime == lastActiveTime) return;
+        lastActiveTime = gameTime;
+
+        if (pipes == null) {
+            pipes = new ArrayList<>(getAllNodePositions().size());
+            BlockPos.MutableBlockPos pos = new BlockPos.MutableBlockPos();
+            for (LongIterator iterator = getAllNodePositions().iterator(); iterator.hasNext();) {
+                if (level.getBlockEntity(pos.set(iterator.nextLong())) instanceof OpticalPipeBlockEntity opticalPipe) {
+                    pipes.add(opticalPipe);
+                }
+            }
+        }
+        boolean valid = true;
+        for (OpticalPipeBlockEntity pipe : pipes) {
+            if (pipe.isInValid()) {
+                // the pipe was removed or its chunk unloaded, look the pipes up again next time
+                valid = false;
+                continue;
+            }
+            pipe.setActive(true, 100);
+        }
+        // pipes in chunks which weren't loaded yet are missing, so look them up again until all of them are found
+        if (!valid || pipes.size() < getAllNodePositions().size()) pipes = null;
+    }
+
+    @Override
+    protected void onNodeConnectionsUpdate() {
+        super.onNodeConnectionsUpdate();
+        pipes = null;
+    }
+
     @Override
     public void onNeighbourUpdate(BlockPos fromPos) {
         NET_DATA.clear();
@@ -44,6 +91,7 @@ public class OpticalPipeNet extends PipeNet<OpticalPipeProperties> {
     @Override
     public void onPipeConnectionsUpdate() {
         NET_DATA.clear();
+        pipes = null;
     }
 
     @Override
@@ -51,7 +99,9 @@ public class OpticalPipeNet extends PipeNet<OpticalPipeProperties> {
                                     PipeNet<OpticalPipeProperties> parentNet) {
         super.transferNodeData(transferredNodes, parentNet);
         NET_DATA.clear();
+        pipes = null;
         ((OpticalPipeNet) parentNet).NET_DATA.clear();
+        ((OpticalPipeNet) parentNet).pipes = null;
     }
 
     @Override
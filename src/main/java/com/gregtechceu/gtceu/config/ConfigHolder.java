@@ -154,6 +154,11 @@ public class ConfigHolder {
                 "Default: 1.0f" })
         @Configurable.DecimalRange(min = 0.0f, max = 1.0f)
         public float extractorRecyclingYield = 1.0f;
+        @Configurable
+        @Configurable.Comment({ "Whether to freeze each recipe type's lookup tree into a compiled, int-keyed form " +
+                "after recipes are (re)loaded.", "Finds the same recipes as the regular lookup, but faster.",
+                "Default: false" })
+        public boolean compiledRecipeLookup = false;
     }
 
     public static class CompatibilityConfigs {
@@ -581,6 +586,13 @@ public class ConfigHolder {
         })
         public int steamMultiParallelAmount = 8;
 
+        @Configurable
+        @Configurable.Comment({
+                "Whether machines with nothing to do this tick are removed from the level's block entity tickers, " +
+                        "and woken up again when needed.",
+                "Default: true" })
+        public boolean detachIdleMachineTickers = true;
+
         @Configurable
         @Configurable.Comment("Whether the Drums can input fluids from the output side (bottom).")
         public boolean allowDrumsInputFluidsFromOutputSide = false;
@@ -841,6 +853,14 @@ public class ConfigHolder {
         @Configurable.Comment({ "Dump all registered GT recipes?", "Default: false" })
         public boolean dumpRecipes = false;
         @Configurable
+        @Configurable.Comment({ "Cache the generated GT recipes on disk, and reuse them on the next start " +
+                "if no mods, configs, materials or scripts changed?",
+                "Addons which change other data while adding their recipes may not work with this.",
+                "While caching, GT recipes are stored as JSON in the generated data pack, so every reload parses " +
+                        "them again instead of handing the built recipes to the recipe manager.",
+                "Has no effect while dumping recipes.", "Default: false" })
+        public boolean cacheGeneratedRecipes = false;
+        @Configurable
         @Configurable.Comment({ "Dump all registered GT models/blockstates/etc?", "Default: false" })
         public boolean dumpAssets = false;
     }
@@ -0,0 +1,18 @@
+package com.gregtechceu.gtceu.core.mixins;
+
+import net.minecraft.core.BlockPos;
+import net.minecraft.world.level.block.entity.BlockEntity;
+import net.minecraft.world.level.chunk.LevelChunk;
+
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.gen.Invoker;
+
+@Mixin(LevelChunk.class)
+public interface LevelChunkAccessor {
+
+    @Invoker
+    <T extends BlockEntity> void callUpdateBlockEntityTicker(T blockEntity);
+
+    @Invoker
+    void callRemoveBlockEntityTicker(BlockPos pos);
+}
@@ -1,8 +1,10 @@
 package com.gregtechceu.gtceu.core.mixins;
 
+import com.gregtechceu.gtceu.api.recipe.GTRecipe;
 import com.gregtechceu.gtceu.api.recipe.GTRecipeType;
 import com.gregtechceu.gtceu.api.recipe.lookup.RecipeManagerHandler;
 import com.gregtechceu.gtceu.common.item.armor.PowerlessJetpack;
+import com.gregtechceu.gtceu.data.pack.GTDynamicDataPack;
 
 import net.minecraft.resources.ResourceLocation;
 import net.minecraft.server.packs.resources.ResourceManager;
@@ -12,13 +14,17 @@ import net.minecraft.world.item.crafting.RecipeManager;
 import net.minecraft.world.item.crafting.RecipeType;
 import net.minecraftforge.registries.ForgeRegistries;
 
+import com.google.common.collect.ImmutableMap;
 import com.google.gson.JsonElement;
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.Shadow;
+import org.spongepowered.asm.mixin.Unique;
 import org.spongepowered.asm.mixin.injection.At;
 import org.spongepowered.asm.mixin.injection.Inject;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
 
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.Map;
 
 /**
@@ -29,11 +35,14 @@ public abstract class RecipeManagerMixin {
 
     @Shadow
     private Map<RecipeType<?>, Map<ResourceLocation, Recipe<?>>> recipes;
+    @Shadow
+    private Map<ResourceLocation, Recipe<?>> byName;
 
     @Inject(method = "apply(Ljava/util/Map;Lnet/minecraft/server/packs/resources/ResourceManager;Lnet/minecraft/util/profiling/ProfilerFiller;)V",
             at = @At(value = "TAIL"))
     private void gtceu$cloneVanillaRecipes(Map<ResourceLocation, JsonElement> map, ResourceManager resourceManager,
                                            ProfilerFiller profiler, CallbackInfo ci) {
+        gtceu$addDirectRecipes(map);
         PowerlessJetpack.FUELS.clear();
         for (RecipeType<?> recipeType : ForgeRegistries.RECIPE_TYPES) {
             if (!(recipeType instanceof GTRecipeType gtRecipeType)) {
@@ -48,10 +57,27 @@ public abstract class RecipeManagerMixin {
                 RecipeManagerHandler.addProxyRecipesToLookup(recipesByID, gtRecipeType, type, list);
             });
             var recipesByID = recipes.get(gtRecipeType);
-            if (recipesByID == null) {
-                continue;
+            if (recipesByID != null) {
+                RecipeManagerHandler.addRecipesToLookup(recipesByID, gtRecipeType);
             }
-            RecipeManagerHandler.addRecipesToLookup(recipesByID, gtRecipeType);
+            gtRecipeType.getLookup().freeze();
         }
     }
+
+    @Unique
+    private void gtceu$addDirectRecipes(Map<ResourceLocation, JsonElement> map) {
+        Collection<GTRecipe> directRecipes = GTDynamicDataPack.getDirectRecipes();
+        if (directRecipes.isEmpty()) {
+            return;
+        }
+
+        Map<ResourceLocation, Recipe<?>> newByName = new LinkedHashMap<>(byName);
+        Map<RecipeType<?>, Map<ResourceLocation, Recipe<?>>> newRecipes = new LinkedHashMap<>(recipes);
+        // the map holds every recipe of the data packs, also the ones their conditions disabled
+        RecipeManagerHandler.addDirectRecipes(directRecipes, map.keySet(), newByName, newRecipes);
+        newRecipes.replaceAll((type, recipesByID) -> ImmutableMap.copyOf(recipesByID));
+
+        this.recipes = ImmutableMap.copyOf(newRecipes);
+        this.byName = ImmutableMap.copyOf(newByName);
+    }
 }
@@ -3,8 +3,10 @@ package com.gregtechceu.gtceu.data.pack;
 import com.gregtechceu.gtceu.GTCEu;
 import com.gregtechceu.gtceu.api.addon.AddonFinder;
 import com.gregtechceu.gtceu.api.addon.IGTAddon;
+import com.gregtechceu.gtceu.api.recipe.GTRecipe;
 import com.gregtechceu.gtceu.common.data.GTRecipes;
 import com.gregtechceu.gtceu.config.ConfigHolder;
+import com.gregtechceu.gtceu.data.recipe.builder.GTRecipeBuilder;
 
 import net.minecraft.SharedConstants;
 import net.minecraft.data.recipes.FinishedRecipe;
@@ -19,6 +21,7 @@ import net.minecraft.server.packs.resources.IoSupplier;
 import com.google.common.collect.Sets;
 import com.google.gson.JsonArray;
 import com.google.gson.JsonObject;
+import it.unimi.dsi.fastutil.objects.Object2ObjectLinkedOpenHashMap;
 import it.unimi.dsi.fastutil.objects.ObjectOpenHashSet;
 import it.unimi.dsi.fastutil.objects.ObjectSet;
 import org.jetbrains.annotations.ApiStatus;
@@ -41,6 +44,11 @@ public class GTDynamicDataPack implements PackResources {
 
     protected static final ObjectSet<String> SERVER_DOMAINS = new ObjectOpenHashSet<>();
     protected static final GTDynamicPackContents CONTENTS = new GTDynamicPackContents();
+    /**
+     * GT recipes which are handed to the recipe manager as they are built, instead of being serialized into the pack
+     * and parsed again on every reload. See {@link #getDirectRecipes()}.
+     */
+    private static final Map<ResourceLocation, GTRecipe> DIRECT_RECIPES = new Object2ObjectLinkedOpenHashMap<>();
 
     private final String name;
 
@@ -59,20 +67,43 @@ public class GTDynamicDataPack implements PackResources {
 
     public static void clearServer() {
         CONTENTS.clearData();
+        DIRECT_RECIPES.clear();
     }
 
     private static void addToData(ResourceLocation location, byte[] bytes) {
         CONTENTS.addToData(location, bytes);
     }
 
+    static void addToData(ResourceLocation location, IoSupplier<InputStream> supplier) {
+        CONTENTS.addToData(location, supplier);
+    }
+
+    static void forEachResource(ResourceOutput resourceOutput) {
+        CONTENTS.forEachResource(resourceOutput);
+    }
+
     public static void addRecipe(FinishedRecipe recipe) {
-        JsonObject recipeJson = recipe.serializeRecipe();
-        byte[] recipeBytes = recipeJson.toString().getBytes(StandardCharsets.UTF_8);
         Path parent = GTCEu.getGameDir().resolve("gtceu/dumped/data");
         ResourceLocation recipeId = recipe.getId();
+        // recipes loaded from the cache are read from the pack, so everything has to go into it while caching
+        if (recipe instanceof GTRecipeBuilder.FinishedGTRecipe gtRecipe && canAddDirectRecipes() &&
+                !GTDynamicDataPackCache.isEnabled()) {
+            DIRECT_RECIPES.put(recipeId, gtRecipe.getRecipe());
+            // GT recipes have no advancements, and only need to be serialized for dumping
+            if (ConfigHolder.INSTANCE.dev.dumpRecipes) {
+                writeJson(recipeId, "recipes", parent,
+                        recipe.serializeRecipe().toString().getBytes(StandardCharsets.UTF_8));
+            }
+            return;
+        }
+
+        JsonObject recipeJson = recipe.serializeRecipe();
+        byte[] recipeBytes = recipeJson.toString().getBytes(StandardCharsets.UTF_8);
         if (ConfigHolder.INSTANCE.dev.dumpRecipes) {
             writeJson(recipeId, "recipes", parent, recipeBytes);
         }
+        // the recipe added last wins, the same as in the pack contents
+        DIRECT_RECIPES.remove(recipeId);
         addToData(getRecipeLocation(recipeId), recipeBytes);
 
         if (recipe.serializeAdvancement() != null) {
@@ -86,6 +117,26 @@ public class GTDynamicDataPack implements PackResources {
         }
     }
 
+    /**
+     * KubeJS edits recipes while they are still JSON, so GT recipes have to go through the pack for scripts to see
+     * them.
+     */
+    private static boolean canAddDirectRecipes() {
+        return !GTCEu.Mods.isKubeJSLoaded();
+    }
+
+    /**
+     * Gets the GT recipes which were not written to the pack, and have to be added to the recipe manager after it
+     * loaded the recipes of all data packs. Recipes from data packs with the same id take priority over them, the same
+     * as if they were in this pack.
+     *
+     * @return the recipes in the order they were added
+     */
+    @ApiStatus.Internal
+    public static Collection<GTRecipe> getDirectRecipes() {
+        return DIRECT_RECIPES.values();
+    }
+
     /**
      * if subdir is null, no file ending is appended.
      *
@@ -0,0 +1,403 @@
+package com.gregtechceu.gtceu.data.pack;
+
+import com.gregtechceu.gtceu.GTCEu;
+import com.gregtechceu.gtceu.api.GTCEuAPI;
+import com.gregtechceu.gtceu.api.addon.AddonFinder;
+import com.gregtechceu.gtceu.api.addon.IGTAddon;
+import com.gregtechceu.gtceu.api.data.chemical.material.ItemMaterialData;
+import com.gregtechceu.gtceu.api.data.chemical.material.Material;
+import com.gregtechceu.gtceu.api.data.chemical.material.stack.ItemMaterialInfo;
+import com.gregtechceu.gtceu.api.data.chemical.material.stack.MaterialStack;
+import com.gregtechceu.gtceu.api.recipe.GTRecipe;
+import com.gregtechceu.gtceu.api.recipe.GTRecipeSerializer;
+import com.gregtechceu.gtceu.api.recipe.GTRecipeType;
+import com.gregtechceu.gtceu.common.data.GTRecipes;
+import com.gregtechceu.gtceu.config.ConfigHolder;
+
+import net.minecraft.core.registries.BuiltInRegistries;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.NbtIo;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.world.item.Item;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.item.crafting.RecipeType;
+import net.minecraftforge.fml.ModList;
+import net.minecraftforge.fml.loading.FMLPaths;
+import net.minecraftforge.registries.ForgeRegistries;
+
+import com.google.gson.JsonParser;
+import it.unimi.dsi.fastutil.objects.Object2ObjectLinkedOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
+import org.jetbrains.annotations.VisibleForTesting;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.*;
+import java.util.stream.Stream;
+
+/**
+ * An opt-in cache of the data generated by {@link GTRecipes#recipeAddition}, so the recipe generators don't have to
+ * run again on the next start if nothing they depend on changed. Enabled with
+ * {@link ConfigHolder.DeveloperConfigs#cacheGeneratedRecipes}.
+ * <p>
+ * Besides the contents of {@link GTDynamicDataPack}, the cache stores the other data the generators leave behind:
+ * the material info of items, including the infos which are resolved later when KubeJS adds recipes, and the data
+ * stick entries and minimum recipe condition counts of recipe types.
+ * It is keyed by a hash of the loaded mods, the configs of GT and its addons, the materials with all of their
+ * properties, the removed recipes and, with KubeJS, the scripts.
+ * The cache file is read in one go, and the pack contents are parsed from it on demand.
+ */
+public class GTDynamicDataPackCache {
+
+    private static final int MAGIC = 0x47544450; // GTDP
+    private static final int FORMAT_VERSION = 2;
+
+    public static boolean isEnabled() {
+        return ConfigHolder.INSTANCE.dev.cacheGeneratedRecipes && !ConfigHolder.INSTANCE.dev.dumpRecipes;
+    }
+
+    private static Path getCacheFile() {
+        return GTCEu.getGameDir().resolve("gtceu/cache/dynamic_data.bin");
+    }
+
+    /**
+     * Loads the generated data from the cache if it is up to date, otherwise generates it and updates the cache.
+     *
+     * @param generator generates the data, see {@link GTRecipes#recipeAddition}
+     */
+    public static void loadOrGenerate(Runnable generator) {
+        loadOrGenerate(getCacheFile(), generator);
+    }
+
+    @VisibleForTesting
+    static void loadOrGenerate(Path file, Runnable generator) {
+        if (!isEnabled()) {
+            generator.run();
+            return;
+        }
+
+        byte[] key;
+        try {
+            key = computeKey();
+        } catch (IOException | NoSuchAlgorithmException e) {
+            GTCEu.LOGGER.error("Failed to compute the key of the generated data cache", e);
+            generator.run();
+            return;
+        }
+
+        if (Files.isRegularFile(file)) {
+            try {
+                if (load(file, key)) {
+                    GTCEu.LOGGER.info("Loaded generated recipes from the cache");
+                    return;
+                }
+            } catch (IOException | RuntimeException e) {
+                GTCEu.LOGGER.warn("Failed to load the generated data cache, generating it again", e);
+            }
+        }
+
+        generator.run();
+        try {
+            save(file, key);
+        } catch (IOException e) {
+            GTCEu.LOGGER.error("Failed to write the generated data cache", e);
+        }
+    }
+
+    private static byte[] computeKey() throws IOException, NoSuchAlgorithmException {
+        MessageDigest digest = MessageDigest.getInstance("SHA-256");
+        DataOutputStream out = new DataOutputStream(new OutputStream() {
+
+            @Override
+            public void write(int b) {
+                digest.update((byte) b);
+            }
+
+            @Override
+            public void write(byte[] b, int off, int len) {
+                digest.update(b, off, len);
+            }
+        });
+        out.writeInt(FORMAT_VERSION);
+
+        // mods, which also covers the versions of GT and its addons
+        var mods = new ArrayList<>(ModList.get().getMods());
+        mods.sort(Comparator.comparing(mod -> mod.getModId()));
+        for (var mod : mods) {
+            out.writeUTF(mod.getModId());
+            out.writeUTF(mod.getVersion().toString());
+        }
+
+        // the configs of GT and its addons, which may turn recipes on and off
+        Set<String> configOwners = new HashSet<>();
+        configOwners.add(GTCEu.MOD_ID);
+        for (IGTAddon addon : AddonFinder.getAddons()) {
+            configOwners.add(addon.addonModId());
+        }
+        Path configDir = FMLPaths.CONFIGDIR.get();
+        if (Files.isDirectory(configDir)) {
+            try (Stream<Path> files = Files.walk(configDir)) {
+                for (Path config : files.filter(Files::isRegularFile).sorted().toList()) {
+                    String name = configDir.relativize(config).getName(0).toString();
+                    if (configOwners.stream().anyMatch(name::startsWith)) {
+                        out.writeUTF(configDir.relativize(config).toString());
+                        out.write(Files.readAllBytes(config));
+                    }
+                }
+            }
+        }
+
+        var materials = new ArrayList<>(GTCEuAPI.materialManager.getRegisteredMaterials());
+        materials.sort(Comparator.naturalOrder());
+        for (Material material : materials) {
+            out.write(MaterialDescriber.describe(material).getBytes(StandardCharsets.UTF_8));
+        }
+
+        var removedRecipes = new ArrayList<>(GTRecipes.RECIPE_FILTERS);
+        removedRecipes.sort(Comparator.naturalOrder());
+        for (ResourceLocation id : removedRecipes) {
+            out.writeUTF(id.toString());
+        }
+
+        if (GTCEu.Mods.isKubeJSLoaded()) {
+            Path kubejs = GTCEu.getGameDir().resolve("kubejs");
+            for (String folder : new String[] { "startup_scripts", "server_scripts" }) {
+                Path scripts = kubejs.resolve(folder);
+                if (!Files.isDirectory(scripts)) continue;
+                try (Stream<Path> files = Files.walk(scripts)) {
+                    for (Path script : files.filter(Files::isRegularFile).sorted().toList()) {
+                        out.writeUTF(kubejs.relativize(script).toString());
+                        out.write(Files.readAllBytes(script));
+                    }
+                }
+            }
+        }
+        return digest.digest();
+    }
+
+    private static void save(Path file, byte[] key) throws IOException {
+        Files.createDirectories(file.getParent());
+        Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+        try (var out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+            out.writeInt(MAGIC);
+            out.writeInt(FORMAT_VERSION);
+            out.writeInt(key.length);
+            out.write(key);
+
+            Map<ResourceLocation, byte[]> contents = new Object2ObjectLinkedOpenHashMap<>();
+            GTDynamicDataPack.forEachResource((location, supplier) -> {
+                try (InputStream stream = supplier.get()) {
+                    contents.put(location, stream.readAllBytes());
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            out.writeInt(contents.size());
+            for (var entry : contents.entrySet()) {
+                out.writeUTF(entry.getKey().toString());
+                out.writeInt(entry.getValue().length);
+                out.write(entry.getValue());
+            }
+
+            out.writeInt(ItemMaterialData.ITEM_MATERIAL_INFO.size());
+            for (var entry : ItemMaterialData.ITEM_MATERIAL_INFO.entrySet()) {
+                out.writeUTF(BuiltInRegistries.ITEM.getKey(entry.getKey()).toString());
+                List<MaterialStack> stacks = entry.getValue().getMaterials();
+                out.writeInt(stacks.size());
+                for (MaterialStack stack : stacks) {
+                    out.writeUTF(stack.material().getResourceLocation().toString());
+                    out.writeLong(stack.amount());
+                }
+            }
+
+            List<GTRecipeType> recipeTypes = new ArrayList<>();
+            for (RecipeType<?> recipeType : ForgeRegistries.RECIPE_TYPES) {
+                if (recipeType instanceof GTRecipeType gtRecipeType && !gtRecipeType.getDataStickEntries().isEmpty()) {
+                    recipeTypes.add(gtRecipeType);
+                }
+            }
+            out.writeInt(recipeTypes.size());
+            for (GTRecipeType recipeType : recipeTypes) {
+                out.writeUTF(recipeType.registryName.toString());
+                var entries = recipeType.getDataStickEntries();
+                out.writeInt(entries.size());
+                for (var entry : entries.entrySet()) {
+                    out.writeUTF(entry.getKey());
+                    out.writeInt(entry.getValue().size());
+                    for (GTRecipe recipe : entry.getValue()) {
+                        out.writeUTF(recipe.getId().toString());
+                    }
+                }
+            }
+
+            List<GTRecipeType> conditionTypes = new ArrayList<>();
+            for (RecipeType<?> recipeType : ForgeRegistries.RECIPE_TYPES) {
+                if (recipeType instanceof GTRecipeType gtRecipeType && gtRecipeType.getMinRecipeConditions() > 0) {
+                    conditionTypes.add(gtRecipeType);
+                }
+            }
+            out.writeInt(conditionTypes.size());
+            for (GTRecipeType recipeType : conditionTypes) {
+                out.writeUTF(recipeType.registryName.toString());
+                out.writeInt(recipeType.getMinRecipeConditions());
+            }
+
+            // these are only left over when KubeJS resolves them after its recipe event
+            out.writeInt(ItemMaterialData.UNRESOLVED_ITEM_MATERIAL_INFO.size());
+            for (var entry : ItemMaterialData.UNRESOLVED_ITEM_MATERIAL_INFO.entrySet()) {
+                NbtIo.write(entry.getKey().save(new CompoundTag()), out);
+                out.writeInt(entry.getValue().size());
+                for (ItemStack input : entry.getValue()) {
+                    NbtIo.write(input.save(new CompoundTag()), out);
+                }
+            }
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    /**
+     * Reads the whole cache before applying anything, so a stale or broken cache leaves no partial state behind.
+     *
+     * @return if the cache matched the key and was loaded
+     */
+    private static boolean load(Path file, byte[] key) throws IOException {
+        // read rather than mapped, Windows can't replace a mapped file when the data is regenerated
+        ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(file));
+        // the stream doesn't buffer, so the position of the buffer is always the position of the stream
+        var in = new DataInputStream(new ByteBufferInputStream(buffer));
+        if (in.readInt() != MAGIC || in.readInt() != FORMAT_VERSION) return false;
+        byte[] cachedKey = new byte[in.readInt()];
+        in.readFully(cachedKey);
+        if (!Arrays.equals(cachedKey, key)) return false;
+
+        int contentCount = in.readInt();
+        Map<ResourceLocation, ByteBuffer> contents = new Object2ObjectLinkedOpenHashMap<>(contentCount);
+        for (int i = 0; i < contentCount; i++) {
+            ResourceLocation location = new ResourceLocation(in.readUTF());
+            int length = in.readInt();
+            contents.put(location, buffer.slice(buffer.position(), length));
+            buffer.position(buffer.position() + length);
+        }
+
+        int infoCount = in.readInt();
+        Map<Item, ItemMaterialInfo> materialInfos = new Object2ObjectOpenHashMap<>(infoCount);
+        for (int i = 0; i < infoCount; i++) {
+            Item item = BuiltInRegistries.ITEM.getOptional(new ResourceLocation(in.readUTF())).orElse(null);
+            int stackCount = in.readInt();
+            List<MaterialStack> stacks = new ArrayList<>(stackCount);
+            for (int j = 0; j < stackCount; j++) {
+                Material material = GTCEuAPI.materialManager.getMaterial(in.readUTF());
+                long amount = in.readLong();
+                if (material == null) return false;
+                stacks.add(new MaterialStack(material, amount));
+            }
+            if (item == null) return false;
+            materialInfos.put(item, new ItemMaterialInfo(stacks));
+        }
+
+        Map<ResourceLocation, GTRecipe> researchRecipes = new HashMap<>();
+        Map<GTRecipeType, Map<String, List<GTRecipe>>> dataStickEntries = new HashMap<>();
+        int typeCount = in.readInt();
+        for (int i = 0; i < typeCount; i++) {
+            if (!(BuiltInRegistries.RECIPE_TYPE.get(new ResourceLocation(in.readUTF())) instanceof GTRecipeType type)) {
+                return false;
+            }
+            var entries = dataStickEntries.computeIfAbsent(type, t -> new HashMap<>());
+            int entryCount = in.readInt();
+            for (int j = 0; j < entryCount; j++) {
+                var recipes = entries.computeIfAbsent(in.readUTF(), id -> new ArrayList<>());
+                int recipeCount = in.readInt();
+                for (int k = 0; k < recipeCount; k++) {
+                    ResourceLocation recipeId = new ResourceLocation(in.readUTF());
+                    GTRecipe recipe = researchRecipes.get(recipeId);
+                    if (recipe == null) {
+                        ByteBuffer json = contents.get(GTDynamicDataPack.getRecipeLocation(recipeId));
+                        if (json == null) return false;
+                        try (var reader = new InputStreamReader(new ByteBufferInputStream(json.duplicate()),
+                                StandardCharsets.UTF_8)) {
+                            recipe = GTRecipeSerializer.SERIALIZER.fromJson(recipeId,
+                                    JsonParser.parseReader(reader).getAsJsonObject());
+                        }
+                        researchRecipes.put(recipeId, recipe);
+                    }
+                    recipes.add(recipe);
+                }
+            }
+        }
+
+        int conditionTypeCount = in.readInt();
+        Map<GTRecipeType, Integer> minRecipeConditions = new HashMap<>();
+        for (int i = 0; i < conditionTypeCount; i++) {
+            if (!(BuiltInRegistries.RECIPE_TYPE.get(new ResourceLocation(in.readUTF())) instanceof GTRecipeType type)) {
+                return false;
+            }
+            minRecipeConditions.put(type, in.readInt());
+        }
+
+        int unresolvedCount = in.readInt();
+        Map<ItemStack, List<ItemStack>> unresolvedInfos = new LinkedHashMap<>(unresolvedCount);
+        for (int i = 0; i < unresolvedCount; i++) {
+            ItemStack output = ItemStack.of(NbtIo.read(in));
+            int inputCount = in.readInt();
+            List<ItemStack> inputs = new ArrayList<>(inputCount);
+            for (int j = 0; j < inputCount; j++) {
+                ItemStack input = ItemStack.of(NbtIo.read(in));
+                if (input.isEmpty()) return false;
+                inputs.add(input);
+            }
+            if (output.isEmpty()) return false;
+            unresolvedInfos.put(output, inputs);
+        }
+
+        GTRecipes.initRecipeData();
+        ItemMaterialData.UNRESOLVED_ITEM_MATERIAL_INFO.clear();
+        ItemMaterialData.UNRESOLVED_ITEM_MATERIAL_INFO.putAll(unresolvedInfos);
+        ItemMaterialData.ITEM_MATERIAL_INFO.clear();
+        ItemMaterialData.ITEM_MATERIAL_INFO.putAll(materialInfos);
+        dataStickEntries.forEach((type, entries) -> entries.forEach((researchId, recipes) -> {
+            for (GTRecipe recipe : recipes) {
+                type.addDataStickEntry(researchId, recipe);
+            }
+        }));
+        minRecipeConditions.forEach(GTRecipeType::setMinRecipeConditions);
+        contents.forEach((location, data) -> GTDynamicDataPack.addToData(location,
+                () -> new ByteBufferInputStream(data.duplicate())));
+        return true;
+    }
+
+    private static class ByteBufferInputStream extends InputStream {
+
+        private final ByteBuffer buffer;
+
+        private ByteBufferInputStream(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public int read() {
+            return buffer.hasRemaining() ? buffer.get() & 0xFF : -1;
+        }
+
+        @Override
+        public int read(byte[] bytes, int offset, int length) {
+            if (length == 0) return 0;
+            if (!buffer.hasRemaining()) return -1;
+            length = Math.min(length, buffer.remaining());
+            buffer.get(bytes, offset, length);
+            return length;
+        }
+
+        @Override
+        public int available() {
+            return buffer.remaining();
+        }
+    }
+}
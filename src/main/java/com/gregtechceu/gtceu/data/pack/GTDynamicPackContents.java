@@ -139,6 +139,27 @@ public class GTDynamicPackContents {
         }
     }
 
+    /**
+     * Outputs every resource of the pack.
+     */
+    public void forEachResource(PackResources.ResourceOutput resourceOutput) {
+        var lock = this.lock.readLock();
+        lock.lock();
+        try {
+            for (var namespace : this.root.getChildren().entrySet()) {
+                Node node = namespace.getValue();
+                if (node.isTerminalNode()) {
+                    continue;
+                }
+                for (var entry : node.getChildren().entrySet()) {
+                    entry.getValue().outputResources(namespace.getKey(), entry.getKey(), resourceOutput);
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
     public void listResources(String namespace, String path, PackResources.ResourceOutput resourceOutput) {
         var lock = this.lock.readLock();
         lock.lock();
@@ -0,0 +1,182 @@
+package com.gregtechceu.gtceu.data.pack;
+
+import com.gregtechceu.gtceu.api.data.chemical.material.Material;
+
+import net.minecraft.core.Registry;
+import net.minecraft.core.registries.BuiltInRegistries;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.resources.ResourceLocation;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.*;
+
+/**
+ * Describes a material with the values of all of its fields, including its info, flags and properties, so
+ * {@link GTDynamicDataPackCache} notices any change to a material that the recipe generators may read.
+ * <p>
+ * GT and addon objects are described field by field, other materials by their id, and objects of Minecraft, Forge and
+ * libraries by their registry name or their own {@link Object#toString()}. Lambdas can't be described, so only their
+ * presence counts.
+ */
+final class MaterialDescriber {
+
+    private static final int MAX_DEPTH = 8;
+    private static final String[] FOREIGN_PACKAGES = { "java.", "javax.", "jdk.", "sun.", "net.minecraft.",
+            "net.minecraftforge.", "com.mojang.", "com.google.", "it.unimi.", "org.jetbrains." };
+    private static final List<Registry<?>> REGISTRIES = List.of(BuiltInRegistries.ITEM, BuiltInRegistries.BLOCK,
+            BuiltInRegistries.FLUID, BuiltInRegistries.ENCHANTMENT, BuiltInRegistries.MOB_EFFECT,
+            BuiltInRegistries.SOUND_EVENT, BuiltInRegistries.ENTITY_TYPE);
+
+    /**
+     * The objects being described, to stop at cycles.
+     */
+    private final Set<Object> path = Collections.newSetFromMap(new IdentityHashMap<>());
+    private StringBuilder builder = new StringBuilder();
+
+    private MaterialDescriber() {}
+
+    static String describe(Material material) {
+        var describer = new MaterialDescriber();
+        describer.builder.append(material.getResourceLocation());
+        describer.describeFields(material, 0);
+        return describer.builder.append('\n').toString();
+    }
+
+    private void describe(@Nullable Object value, int depth) {
+        if (value == null) {
+            builder.append("null");
+        } else if (value instanceof Material material) {
+            builder.append(material.getResourceLocation());
+        } else if (value instanceof CharSequence || value instanceof Number || value instanceof Boolean ||
+                value instanceof Character || value instanceof ResourceLocation) {
+            builder.append(value);
+        } else if (value instanceof Enum<?> constant) {
+            builder.append(constant.name());
+        } else if (value instanceof Class<?> type) {
+            builder.append(type.getName());
+        } else if (depth >= MAX_DEPTH || !path.add(value)) {
+            builder.append('~');
+        } else {
+            try {
+                describeObject(value, depth + 1);
+            } finally {
+                path.remove(value);
+            }
+        }
+    }
+
+    private void describeObject(Object value, int depth) {
+        Class<?> type = value.getClass();
+        if (type.isArray()) {
+            builder.append('[');
+            for (int i = 0; i < Array.getLength(value); i++) {
+                describe(Array.get(value, i), depth);
+                builder.append(',');
+            }
+            builder.append(']');
+        } else if (value instanceof Map<?, ?> map) {
+            // the iteration order of hash maps may differ between runs, so the entries are sorted
+            List<String> entries = new ArrayList<>(map.size());
+            map.forEach((key, entry) -> entries.add(describeToString(key, depth) + '=' +
+                    describeToString(entry, depth)));
+            Collections.sort(entries);
+            builder.append(entries);
+        } else if (value instanceof Set<?> set) {
+            List<String> elements = new ArrayList<>(set.size());
+            for (Object element : set) {
+                elements.add(describeToString(element, depth));
+            }
+            Collections.sort(elements);
+            builder.append(elements);
+        } else if (value instanceof Iterable<?> iterable) {
+            builder.append('[');
+            for (Object element : iterable) {
+                describe(element, depth);
+                builder.append(',');
+            }
+            builder.append(']');
+        } else if (isLambda(type)) {
+            builder.append("lambda");
+        } else if (isForeign(type)) {
+            builder.append(describeForeign(value));
+        } else {
+            builder.append(type.getName());
+            describeFields(value, depth);
+        }
+    }
+
+    private void describeFields(Object value, int depth) {
+        builder.append('{');
+        for (Class<?> type = value.getClass(); type != null && type != Object.class; type = type.getSuperclass()) {
+            Field[] fields = type.getDeclaredFields();
+            Arrays.sort(fields, Comparator.comparing(Field::getName));
+            for (Field field : fields) {
+                if (Modifier.isStatic(field.getModifiers())) continue;
+                builder.append(field.getName()).append('=');
+                Object fieldValue;
+                try {
+                    field.setAccessible(true);
+                    fieldValue = field.get(value);
+                } catch (ReflectiveOperationException | RuntimeException e) {
+                    builder.append("?,");
+                    continue;
+                }
+                describe(fieldValue, depth);
+                builder.append(',');
+            }
+        }
+        builder.append('}');
+    }
+
+    private String describeToString(@Nullable Object value, int depth) {
+        StringBuilder outer = builder;
+        builder = new StringBuilder();
+        try {
+            describe(value, depth);
+            return builder.toString();
+        } finally {
+            builder = outer;
+        }
+    }
+
+    private static String describeForeign(Object value) {
+        for (Registry<?> registry : REGISTRIES) {
+            ResourceLocation id = getKey(registry, value);
+            if (id != null) {
+                return id.toString();
+            }
+        }
+        try {
+            if (value.getClass().getMethod("toString").getDeclaringClass() != Object.class) {
+                return value.toString();
+            }
+        } catch (NoSuchMethodException ignored) {}
+        // the default toString has the identity hash code in it, which changes every run
+        return value.getClass().getName();
+    }
+
+    @SuppressWarnings("unchecked")
+    @Nullable
+    private static <T> ResourceLocation getKey(Registry<T> registry, Object value) {
+        // getKey would give the default key of defaulted registries for objects which aren't in them
+        return registry.getResourceKey((T) value).map(ResourceKey::location).orElse(null);
+    }
+
+    private static boolean isLambda(Class<?> type) {
+        return type.isSynthetic() || type.getName().contains("$$Lambda");
+    }
+
+    private static boolean isForeign(Class<?> type) {
+        String name = type.getName();
+        for (String foreignPackage : FOREIGN_PACKAGES) {
+            if (name.startsWith(foreignPackage)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
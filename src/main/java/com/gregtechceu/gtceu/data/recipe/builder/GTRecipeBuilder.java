@@ -1488,35 +1488,59 @@ public class GTRecipeBuilder {
     }
 
     public FinishedRecipe build() {
-        return new FinishedRecipe() {
+        return new FinishedGTRecipe();
+    }
 
-            @Override
-            public void serializeRecipeData(JsonObject pJson) {
-                toJson(pJson);
-            }
+    /**
+     * A finished recipe which can also build the {@link GTRecipe} itself, so it does not have to be serialized to JSON
+     * and parsed again to be loaded.
+     */
+    public class FinishedGTRecipe implements FinishedRecipe {
 
-            @Override
-            public ResourceLocation getId() {
-                return new ResourceLocation(id.getNamespace(), recipeType.registryName.getPath() + "/" + id.getPath());
-            }
+        @Override
+        public void serializeRecipeData(JsonObject pJson) {
+            toJson(pJson);
+        }
 
-            @Override
-            public RecipeSerializer<?> getType() {
-                return GTRecipeSerializer.SERIALIZER;
-            }
+        /**
+         * @return a copy of the recipe, which is not changed by later changes to the builder
+         */
+        public GTRecipe getRecipe() {
+            return new GTRecipe(recipeType, id.withPrefix(recipeType.registryName.getPath() + "/"),
+                    copyContents(input), copyContents(output), copyContents(tickInput), copyContents(tickOutput),
+                    new HashMap<>(inputChanceLogic), new HashMap<>(outputChanceLogic),
+                    new HashMap<>(tickInputChanceLogic), new HashMap<>(tickOutputChanceLogic),
+                    new ArrayList<>(conditions), List.of(), data.copy(), duration, recipeCategory);
+        }
 
-            @Nullable
-            @Override
-            public JsonObject serializeAdvancement() {
-                return null;
-            }
+        @Override
+        public ResourceLocation getId() {
+            return new ResourceLocation(id.getNamespace(), recipeType.registryName.getPath() + "/" + id.getPath());
+        }
 
-            @Nullable
-            @Override
-            public ResourceLocation getAdvancementId() {
-                return null;
-            }
-        };
+        @Override
+        public RecipeSerializer<?> getType() {
+            return GTRecipeSerializer.SERIALIZER;
+        }
+
+        @Nullable
+        @Override
+        public JsonObject serializeAdvancement() {
+            return null;
+        }
+
+        @Nullable
+        @Override
+        public ResourceLocation getAdvancementId() {
+            return null;
+        }
+    }
+
+    private static Map<RecipeCapability<?>, List<Content>> copyContents(
+                                                                        Map<RecipeCapability<?>, List<Content>> contents) {
+        Map<RecipeCapability<?>, List<Content>> copy = new HashMap<>(contents.size());
+        contents.forEach((cap, list) -> copy.put(cap, new ArrayList<>(list)));
+        return copy;
     }
 
     public void save(Consumer<FinishedRecipe> consumer) {
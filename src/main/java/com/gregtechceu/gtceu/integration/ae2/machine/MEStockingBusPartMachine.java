@@ -14,7 +14,9 @@ import com.gregtechceu.gtceu.integration.ae2.machine.feature.multiblock.IMEStock
 import com.gregtechceu.gtceu.integration.ae2.slot.ExportOnlyAEItemList;
 import com.gregtechceu.gtceu.integration.ae2.slot.ExportOnlyAEItemSlot;
 import com.gregtechceu.gtceu.integration.ae2.slot.ExportOnlyAESlot;
+import com.gregtechceu.gtceu.integration.ae2.slot.IConfigurableSlot;
 import com.gregtechceu.gtceu.integration.ae2.slot.IConfigurableSlotList;
+import com.gregtechceu.gtceu.integration.ae2.utils.StockingStorageWatcher;
 
 import com.lowdragmc.lowdraglib.syncdata.annotation.DescSynced;
 import com.lowdragmc.lowdraglib.syncdata.annotation.DropSaved;
@@ -33,6 +35,8 @@ import net.minecraft.world.phys.BlockHitResult;
 
 import appeng.api.config.Actionable;
 import appeng.api.networking.IGrid;
+import appeng.api.networking.IGridNodeListener;
+import appeng.api.networking.storage.IStorageWatcherNode;
 import appeng.api.stacks.AEItemKey;
 import appeng.api.stacks.AEKey;
 import appeng.api.stacks.GenericStack;
@@ -61,7 +65,6 @@ public class MEStockingBusPartMachine extends MEInputBusPartMachine implements I
     private boolean autoPull;
 
     @Getter
-    @Setter
     @Persisted
     @DropSaved
     private int minStackSize = 1;
@@ -74,9 +77,13 @@ public class MEStockingBusPartMachine extends MEInputBusPartMachine implements I
     @Setter
     private Predicate<GenericStack> autoPullTest;
 
+    private final StockingStorageWatcher storageWatcher;
+
     public MEStockingBusPartMachine(IMachineBlockEntity holder, Object... args) {
         super(holder, args);
         this.autoPullTest = $ -> false;
+        this.storageWatcher = new StockingStorageWatcher(aeItemHandler);
+        getMainNode().addService(IStorageWatcherNode.class, storageWatcher);
     }
 
     /////////////////////////////////
@@ -110,16 +117,37 @@ public class MEStockingBusPartMachine extends MEInputBusPartMachine implements I
     // ********** Sync ME *********//
     /////////////////////////////////
 
+    @Override
+    public void onMainNodeStateChanged(IGridNodeListener.State reason) {
+        super.onMainNodeStateChanged(reason);
+        storageWatcher.markAllChanged();
+    }
+
     @Override
     public void autoIO() {
-        super.autoIO();
         if (ticksPerCycle == 0) ticksPerCycle = ConfigHolder.INSTANCE.compat.ae2.updateIntervals; // Emergency Check to
                                                                                                   // Avoid Crash loops.
-        if (getOffsetTimer() % ticksPerCycle == 0) {
-            if (autoPull) {
-                refreshList();
+        if (!storageWatcher.isWatching()) {
+            // the grid hasn't given us a watcher yet, poll every slot
+            super.autoIO();
+            if (getOffsetTimer() % ticksPerCycle == 0) {
+                if (autoPull) {
+                    refreshList();
+                }
+                syncME();
             }
-            syncME();
+            return;
+        }
+
+        if (!this.isWorkingEnabled()) return;
+        // auto-pull still has to scan the network for the biggest stacks
+        if (autoPull && getOffsetTimer() % ticksPerCycle == 0 && updateMEStatus()) {
+            refreshList();
+        }
+        // otherwise only the slots whose key changed in the network need to be synced
+        if (storageWatcher.hasChanges() && updateMEStatus()) {
+            MEStorage networkInv = this.getMainNode().getGrid().getStorageService().getInventory();
+            storageWatcher.syncChanged(slot -> syncSlot(slot, networkInv));
         }
     }
 
@@ -129,18 +157,22 @@ public class MEStockingBusPartMachine extends MEInputBusPartMachine implements I
         // getStackInSlot() method, as it uses the cached items set here.
         MEStorage networkInv = this.getMainNode().getGrid().getStorageService().getInventory();
         for (ExportOnlyAEItemSlot slot : this.aeItemHandler.getInventory()) {
-            var config = slot.getConfig();
-            if (config != null) {
-                // Try to fill the slot
-                var key = config.what();
-                long extracted = networkInv.extract(key, Long.MAX_VALUE, Actionable.SIMULATE, actionSource);
-                if (extracted >= minStackSize) {
-                    slot.setStock(new GenericStack(key, extracted));
-                    continue;
-                }
+            syncSlot(slot, networkInv);
+        }
+    }
+
+    private void syncSlot(IConfigurableSlot slot, MEStorage networkInv) {
+        var config = slot.getConfig();
+        if (config != null) {
+            // Try to fill the slot
+            var key = config.what();
+            long extracted = networkInv.extract(key, Long.MAX_VALUE, Actionable.SIMULATE, actionSource);
+            if (extracted >= minStackSize) {
+                slot.setStock(new GenericStack(key, extracted));
+                return;
             }
-            slot.setStock(null);
         }
+        slot.setStock(null);
     }
 
     @Override
@@ -190,6 +222,13 @@ public class MEStockingBusPartMachine extends MEInputBusPartMachine implements I
         return false;
     }
 
+    @Override
+    public void setMinStackSize(int minStackSize) {
+        this.minStackSize = minStackSize;
+        // the stock of every slot depends on it, not only of the slots whose key changed in the network
+        storageWatcher.markAllChanged();
+    }
+
     @Override
     public void setAutoPull(boolean autoPull) {
         this.autoPull = autoPull;
@@ -363,6 +402,14 @@ public class MEStockingBusPartMachine extends MEInputBusPartMachine implements I
             super(config, stock);
         }
 
+        @Override
+        public void setConfig(@Nullable GenericStack config) {
+            if (storageWatcher != null && StockingStorageWatcher.isKeyChanged(this.config, config)) {
+                storageWatcher.onConfigChanged();
+            }
+            super.setConfig(config);
+        }
+
         @Override
         public ItemStack extractItem(int slot, int amount, boolean simulate) {
             if (slot == 0 && this.stock != null) {
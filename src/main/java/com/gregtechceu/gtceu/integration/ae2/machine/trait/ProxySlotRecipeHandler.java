@@ -110,6 +110,8 @@ public final class ProxySlotRecipeHandler {
 
         public void setProxy(IRecipeHandlerTrait<Ingredient> proxy) {
             this.proxy = proxy;
+            // the contents now come from another handler
+            changeCount++;
             if (proxySub != null) {
                 proxySub.unsubscribe();
                 proxySub = null;
@@ -165,6 +167,8 @@ public final class ProxySlotRecipeHandler {
 
         public void setProxy(IRecipeHandlerTrait<FluidIngredient> proxy) {
             this.proxy = proxy;
+            // the contents now come from another handler
+            changeCount++;
             if (proxySub != null) {
                 proxySub.unsubscribe();
                 proxySub = null;
@@ -0,0 +1,113 @@
+package com.gregtechceu.gtceu.integration.ae2.utils;
+
+import com.gregtechceu.gtceu.integration.ae2.slot.IConfigurableSlot;
+import com.gregtechceu.gtceu.integration.ae2.slot.IConfigurableSlotList;
+
+import appeng.api.networking.IStackWatcher;
+import appeng.api.networking.storage.IStorageWatcherNode;
+import appeng.api.stacks.AEKey;
+import appeng.api.stacks.GenericStack;
+import it.unimi.dsi.fastutil.objects.ObjectOpenHashSet;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * Watches the configured keys of a stocking part in the storage of its grid, so only the slots whose key changed in
+ * the network have to be synced, instead of polling every slot.
+ * <p>
+ * Has to be added as a service to the grid node before it is created, the grid then hands it a watcher.
+ */
+public class StockingStorageWatcher implements IStorageWatcherNode {
+
+    private final IConfigurableSlotList slots;
+    private final Set<AEKey> changedKeys = new ObjectOpenHashSet<>();
+    @Nullable
+    private IStackWatcher watcher;
+    private boolean configChanged = true;
+    private boolean syncAll = true;
+
+    public StockingStorageWatcher(IConfigurableSlotList slots) {
+        this.slots = slots;
+    }
+
+    @Override
+    public void updateWatcher(IStackWatcher newWatcher) {
+        this.watcher = newWatcher;
+        // the node may have joined another grid, anything could have changed
+        this.configChanged = true;
+        this.syncAll = true;
+    }
+
+    @Override
+    public void onStackChange(AEKey what, long amount) {
+        changedKeys.add(what);
+    }
+
+    /**
+     * @return whether the grid gave a watcher yet, until then the slots have to be polled
+     */
+    public boolean isWatching() {
+        return watcher != null;
+    }
+
+    /**
+     * Called when the key configured in a slot changed, so the watched keys are updated and all slots are synced.
+     */
+    public void onConfigChanged() {
+        this.configChanged = true;
+    }
+
+    /**
+     * Syncs all slots on the next call to {@link #syncChanged(Consumer)}.
+     */
+    public void markAllChanged() {
+        this.syncAll = true;
+    }
+
+    public boolean hasChanges() {
+        return configChanged || syncAll || !changedKeys.isEmpty();
+    }
+
+    /**
+     * Syncs the slots whose key changed since the last call.
+     *
+     * @param syncSlot syncs the stock of a slot with the network
+     */
+    public void syncChanged(Consumer<IConfigurableSlot> syncSlot) {
+        if (configChanged) {
+            updateWatchedKeys();
+            configChanged = false;
+            syncAll = true;
+        }
+        for (int i = 0; i < slots.getConfigurableSlots(); i++) {
+            IConfigurableSlot slot = slots.getConfigurableSlot(i);
+            GenericStack config = slot.getConfig();
+            if (syncAll || (config != null && changedKeys.contains(config.what()))) {
+                syncSlot.accept(slot);
+            }
+        }
+        syncAll = false;
+        changedKeys.clear();
+    }
+
+    private void updateWatchedKeys() {
+        if (watcher == null) return;
+        watcher.reset();
+        for (int i = 0; i < slots.getConfigurableSlots(); i++) {
+            GenericStack config = slots.getConfigurableSlot(i).getConfig();
+            if (config != null) {
+                watcher.add(config.what());
+            }
+        }
+    }
+
+    /**
+     * @return whether the keys of two configs differ, their amounts don't matter to stocking parts
+     */
+    public static boolean isKeyChanged(@Nullable GenericStack oldConfig, @Nullable GenericStack newConfig) {
+        if (oldConfig == null || newConfig == null) return oldConfig != newConfig;
+        return !oldConfig.what().equals(newConfig.what());
+    }
+}
@@ -531,6 +531,7 @@ public class GregTechKubeJSPlugin extends KubeJSPlugin {
                 RecipeManagerHandler.addProxyRecipesToLookup(recipesByName, gtRecipeType, type, list);
             });
             RecipeManagerHandler.addRecipesToLookup(recipesByName, gtRecipeType);
+            gtRecipeType.getLookup().freeze();
         }
     }
 
@@ -35,6 +35,8 @@ public class GTRecipePayload extends ObjectTypedPayload<GTRecipe> {
     public Tag serializeNBT() {
         CompoundTag tag = new CompoundTag();
         tag.putString("id", payload.id.toString());
+        // the running recipe is encoded in full rather than as a delta against the registered recipe of its id, as
+        // that recipe may be changed or removed by a reload, and the inputs of the running recipe are already consumed
         tag.put("recipe",
                 GTRecipeSerializer.CODEC.encodeStart(NbtOps.INSTANCE, payload).result().orElse(new CompoundTag()));
         tag.putInt("parallels", payload.parallels);
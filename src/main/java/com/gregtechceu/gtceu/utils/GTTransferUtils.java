@@ -1,7 +1,11 @@
 package com.gregtechceu.gtceu.utils;
 
+import com.gregtechceu.gtceu.api.machine.trait.IRecipeHandlerTrait;
 import com.gregtechceu.gtceu.api.machine.trait.NotifiableFluidTank;
+import com.gregtechceu.gtceu.api.misc.IOFilteredInvWrapper;
+import com.gregtechceu.gtceu.api.transfer.fluid.FluidHandlerDelegate;
 import com.gregtechceu.gtceu.api.transfer.fluid.FluidHandlerList;
+import com.gregtechceu.gtceu.api.transfer.item.ItemHandlerDelegate;
 
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
@@ -25,6 +29,7 @@ import it.unimi.dsi.fastutil.objects.Object2IntMap;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.function.Predicate;
 
@@ -306,4 +311,48 @@ public class GTTransferUtils {
         }
         return stack;
     }
+
+    /**
+     * Gets the notifiable handlers some item or fluid handlers are made of, see
+     * {@link #collectNotifiableHandlers(Object, List)}.
+     *
+     * @return the notifiable handlers, or null if any part of the handlers doesn't notify about its changes
+     */
+    @Nullable
+    public static List<IRecipeHandlerTrait<?>> getNotifiableHandlers(Object... handlers) {
+        List<IRecipeHandlerTrait<?>> notifiers = new ArrayList<>();
+        for (Object handler : handlers) {
+            if (!collectNotifiableHandlers(handler, notifiers)) return null;
+        }
+        return notifiers;
+    }
+
+    /**
+     * Collects the notifiable handlers an item or fluid handler is made of, so the caller can listen to its changes.
+     *
+     * @param handler   the item or fluid handler
+     * @param notifiers the list to add the notifiable handlers to
+     * @return if every part of the handler notifies about its changes
+     */
+    public static boolean collectNotifiableHandlers(@Nullable Object handler, List<IRecipeHandlerTrait<?>> notifiers) {
+        if (handler instanceof IRecipeHandlerTrait<?> trait) {
+            notifiers.add(trait);
+            return true;
+        } else if (handler instanceof ItemHandlerDelegate delegate) {
+            return collectNotifiableHandlers(delegate.delegate, notifiers);
+        } else if (handler instanceof FluidHandlerDelegate delegate) {
+            return collectNotifiableHandlers(delegate.delegate, notifiers);
+        } else if (handler instanceof IOFilteredInvWrapper wrapper) {
+            for (var inner : wrapper.getHandlers()) {
+                if (!collectNotifiableHandlers(inner, notifiers)) return false;
+            }
+            return true;
+        } else if (handler instanceof FluidHandlerList list) {
+            for (var inner : list.handlers) {
+                if (!collectNotifiableHandlers(inner, notifiers)) return false;
+            }
+            return true;
+        }
+        return false;
+    }
 }
@@ -6,66 +6,147 @@ import net.minecraft.resources.ResourceKey;
 import net.minecraft.server.level.ServerLevel;
 import net.minecraft.world.level.Level;
 
+import org.jetbrains.annotations.VisibleForTesting;
+
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
 
+/**
+ * Runs tasks on the server thread after a delay in level ticks.
+ * <p>
+ * Tasks can be enqueued from any thread, they are collected in a lock-free inbox per level and moved into a timing
+ * wheel of {@link #WHEEL_SIZE} buckets indexed by game time on the next tick of the level, so every tick only has to
+ * look at the tasks scheduled for that bucket.
+ */
 public class TaskHandler {
 
-    private static final Map<ResourceKey<Level>, List<RunnableEntry>> serverTasks = new HashMap<>();
-    private static final Map<ResourceKey<Level>, List<RunnableEntry>> waitToAddTasks = new HashMap<>();
+    @VisibleForTesting
+    static final int WHEEL_SIZE = 256;
+    private static final int WHEEL_MASK = WHEEL_SIZE - 1;
+
+    private static final Map<ResourceKey<Level>, TaskHandler> handlers = new ConcurrentHashMap<>();
+
+    private final Queue<RunnableEntry> inbox = new ConcurrentLinkedQueue<>();
+    private final List<List<RunnableEntry>> wheel = new ArrayList<>(WHEEL_SIZE);
+    private long lastGameTime = Long.MIN_VALUE;
+    private int scheduled;
+    private volatile TaskMetrics metrics = TaskMetrics.EMPTY;
+
+    @VisibleForTesting
+    TaskHandler() {
+        for (int i = 0; i < WHEEL_SIZE; i++) {
+            wheel.add(new ArrayList<>());
+        }
+    }
 
     // schedule tick event here
     public static void onTickUpdate(ServerLevel level) {
-        var key = level.dimension();
-        synchronized (waitToAddTasks) {
-            var list = waitToAddTasks.remove(key);
-            if (list != null && !list.isEmpty()) {
-                serverTasks.computeIfAbsent(key, k -> new ArrayList<>()).addAll(list);
-            }
+        var handler = handlers.get(level.dimension());
+        if (handler != null) {
+            handler.tick(level.getGameTime());
         }
-        execute(serverTasks.get(key));
     }
 
     // clean up here
     public static void onWorldUnLoad(ServerLevel level) {
-        var key = level.dimension();
-        serverTasks.remove(key);
-        synchronized (waitToAddTasks) {
-            waitToAddTasks.remove(key);
-        }
+        handlers.remove(level.dimension());
+    }
+
+    public static void enqueueServerTask(ServerLevel level, Runnable task, int delay) {
+        handlers.computeIfAbsent(level.dimension(), key -> new TaskHandler()).enqueue(task, delay);
     }
 
-    private static void execute(List<RunnableEntry> tasks) {
-        if (tasks == null || tasks.isEmpty()) return;
-        var iter = tasks.iterator();
-        while (iter.hasNext()) {
-            var task = iter.next();
-            if (task.delay <= 0) {
+    @VisibleForTesting
+    void enqueue(Runnable task, int delay) {
+        inbox.add(new RunnableEntry(task, delay));
+    }
+
+    /**
+     * @return the metrics of the last tick of the level's tasks
+     */
+    public static TaskMetrics getMetrics(ResourceKey<Level> level) {
+        var handler = handlers.get(level);
+        return handler == null ? TaskMetrics.EMPTY : handler.getMetrics();
+    }
+
+    @VisibleForTesting
+    TaskMetrics getMetrics() {
+        return metrics;
+    }
+
+    @VisibleForTesting
+    void tick(long gameTime) {
+        // the delay counts from the first tick the task is seen, the same as it always did
+        RunnableEntry entry;
+        while ((entry = inbox.poll()) != null) {
+            entry.gameTime = gameTime + Math.max(entry.delay, 0);
+            wheel.get((int) (entry.gameTime & WHEEL_MASK)).add(entry);
+            scheduled++;
+        }
+        if (scheduled == 0) {
+            lastGameTime = gameTime;
+            if (metrics != TaskMetrics.EMPTY) metrics = TaskMetrics.EMPTY;
+            return;
+        }
+
+        // visit the buckets of ticks the level skipped as well, at most one revolution of the wheel
+        long from = lastGameTime == Long.MIN_VALUE ? gameTime : Math.max(lastGameTime + 1, gameTime - WHEEL_MASK);
+        lastGameTime = gameTime;
+        List<RunnableEntry> due = null;
+        for (long time = Math.min(from, gameTime); time <= gameTime; time++) {
+            var bucket = wheel.get((int) (time & WHEEL_MASK));
+            if (bucket.isEmpty()) continue;
+            for (var iter = bucket.iterator(); iter.hasNext();) {
+                var task = iter.next();
+                // entries further away than one revolution stay in the bucket
+                if (task.gameTime <= gameTime) {
+                    if (due == null) due = new ArrayList<>();
+                    due.add(task);
+                    iter.remove();
+                }
+            }
+        }
+
+        int executed = 0;
+        long nanos = 0;
+        if (due != null) {
+            scheduled -= due.size();
+            long start = System.nanoTime();
+            // tasks enqueued while running go to the inbox, and run on the next tick at the earliest
+            for (var task : due) {
                 try {
                     task.runnable.run();
                 } catch (Exception e) {
                     GTCEu.LOGGER.error("error while schedule gregtech task", e);
                 }
-                iter.remove();
-            } else {
-                task.delay--;
             }
+            executed = due.size();
+            nanos = System.nanoTime() - start;
         }
+        metrics = new TaskMetrics(scheduled, executed, nanos);
     }
 
-    public static void enqueueServerTask(ServerLevel level, Runnable task, int delay) {
-        synchronized (waitToAddTasks) {
-            waitToAddTasks.computeIfAbsent(level.dimension(), key -> new ArrayList<>())
-                    .add(new RunnableEntry(task, delay));
-        }
+    /**
+     * The state of a level's tasks after its last tick.
+     *
+     * @param pending  the amount of tasks waiting to run
+     * @param executed the amount of tasks run in the last tick
+     * @param nanos    the time it took to run them, in nanoseconds
+     */
+    public record TaskMetrics(int pending, int executed, long nanos) {
+
+        public static final TaskMetrics EMPTY = new TaskMetrics(0, 0, 0);
     }
 
     private static class RunnableEntry {
 
-        Runnable runnable;
-        int delay;
+        final Runnable runnable;
+        final int delay;
+        long gameTime;
 
         public RunnableEntry(Runnable runnable, int delay) {
             this.runnable = runnable;
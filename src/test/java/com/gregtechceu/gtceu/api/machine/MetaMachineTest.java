@@ -0,0 +1,136 @@
+package com.gregtechceu.gtceu.api.machine;
+
+import com.gregtechceu.gtceu.GTCEu;
+import com.gregtechceu.gtceu.api.GTValues;
+import com.gregtechceu.gtceu.api.machine.multiblock.WorkableMultiblockMachine;
+import com.gregtechceu.gtceu.api.recipe.GTRecipeType;
+import com.gregtechceu.gtceu.common.data.GTMachines;
+import com.gregtechceu.gtceu.common.data.GTRecipeTypes;
+import com.gregtechceu.gtceu.common.machine.multiblock.part.ItemBusPartMachine;
+import com.gregtechceu.gtceu.config.ConfigHolder;
+import com.gregtechceu.gtceu.gametest.util.TestUtils;
+
+import net.minecraft.core.BlockPos;
+import net.minecraft.gametest.framework.AfterBatch;
+import net.minecraft.gametest.framework.BeforeBatch;
+import net.minecraft.gametest.framework.GameTest;
+import net.minecraft.gametest.framework.GameTestHelper;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.level.block.Blocks;
+import net.minecraft.world.level.block.entity.ChestBlockEntity;
+import net.minecraftforge.gametest.GameTestHolder;
+import net.minecraftforge.gametest.PrefixGameTestTemplate;
+
+import static com.gregtechceu.gtceu.gametest.util.TestUtils.getMetaMachine;
+
+@PrefixGameTestTemplate(false)
+@GameTestHolder(GTCEu.MOD_ID)
+public class MetaMachineTest {
+
+    private static GTRecipeType LCR_RECIPE_TYPE;
+    private static boolean detachIdleMachineTickers;
+
+    @BeforeBatch(batch = "MachineTicker")
+    public static void prepare(ServerLevel level) {
+        detachIdleMachineTickers = ConfigHolder.INSTANCE.machines.detachIdleMachineTickers;
+        ConfigHolder.INSTANCE.machines.detachIdleMachineTickers = true;
+
+        LCR_RECIPE_TYPE = TestUtils.createRecipeType("machine_ticker_test_lcr", GTRecipeTypes.LARGE_CHEMICAL_RECIPES);
+        LCR_RECIPE_TYPE.getLookup().addRecipe(LCR_RECIPE_TYPE
+                .recipeBuilder(GTCEu.id("test_machine_ticker"))
+                .inputItems(new ItemStack(Blocks.COBBLESTONE))
+                .outputItems(new ItemStack(Blocks.STONE))
+                .EUt(GTValues.VA[GTValues.HV]).duration(1)
+                .buildRawRecipe());
+    }
+
+    @AfterBatch(batch = "MachineTicker")
+    public static void cleanUp(ServerLevel level) {
+        ConfigHolder.INSTANCE.machines.detachIdleMachineTickers = detachIdleMachineTickers;
+    }
+
+    private static WorkableMultiblockMachine formController(GameTestHelper helper) {
+        WorkableMultiblockMachine controller = (WorkableMultiblockMachine) getMetaMachine(
+                helper.getBlockEntity(new BlockPos(1, 2, 0)));
+        TestUtils.formMultiblock(controller);
+        controller.setRecipeType(LCR_RECIPE_TYPE);
+        return controller;
+    }
+
+    @GameTest(template = "lcr_input_separation", batch = "MachineTicker")
+    public static void idleMachineDetachesAndWakesUpOnInputTest(GameTestHelper helper) {
+        WorkableMultiblockMachine controller = formController(helper);
+        ItemBusPartMachine inputBus = (ItemBusPartMachine) getMetaMachine(
+                helper.getBlockEntity(new BlockPos(2, 1, 0)));
+        ItemBusPartMachine outputBus = (ItemBusPartMachine) getMetaMachine(
+                helper.getBlockEntity(new BlockPos(0, 1, 0)));
+
+        helper.startSequence()
+                .thenWaitUntil(() -> helper.assertTrue(controller.isTickerDetached(),
+                        "Idle controller wasn't detached from the tickers"))
+                .thenExecute(() -> {
+                    inputBus.getInventory().setStackInSlot(0, new ItemStack(Blocks.COBBLESTONE));
+                    helper.assertFalse(controller.isTickerDetached(),
+                            "Controller wasn't attached to the tickers when its inputs changed");
+                })
+                .thenWaitUntil(() -> helper.assertTrue(
+                        TestUtils.isItemStackEqual(outputBus.getInventory().getStackInSlot(0),
+                                new ItemStack(Blocks.STONE)),
+                        "Controller didn't run its recipe after it was attached"))
+                .thenWaitUntil(() -> helper.assertTrue(controller.isTickerDetached(),
+                        "Controller wasn't detached again after it ran out of work"))
+                .thenSucceed();
+    }
+
+    @GameTest(template = "lcr_input_separation", batch = "MachineTicker")
+    public static void sleepingMachineWakesUpOnTimeTest(GameTestHelper helper) {
+        WorkableMultiblockMachine controller = formController(helper);
+        long[] wakeUpTime = { 0 };
+        long[] ranAt = { 0 };
+        TickableSubscription[] subscription = { null };
+
+        helper.startSequence()
+                .thenWaitUntil(() -> helper.assertTrue(controller.isTickerDetached(),
+                        "Idle controller wasn't detached from the tickers"))
+                .thenExecute(() -> {
+                    subscription[0] = controller.subscribeServerTick(() -> {
+                        ranAt[0] = helper.getLevel().getGameTime();
+                        subscription[0].unsubscribe();
+                    });
+                    controller.sleepServerTick(subscription[0], 20);
+                    wakeUpTime[0] = helper.getLevel().getGameTime() + 21;
+                })
+                .thenWaitUntil(() -> helper.assertTrue(controller.isTickerDetached(),
+                        "Controller with only a sleeping subscription wasn't detached"))
+                .thenWaitUntil(() -> helper.assertTrue(ranAt[0] != 0, "Sleeping subscription didn't run"))
+                .thenExecute(() -> helper.assertTrue(ranAt[0] == wakeUpTime[0],
+                        "Sleeping subscription ran at " + ranAt[0] + " instead of " + wakeUpTime[0]))
+                .thenSucceed();
+    }
+
+    @GameTest(template = "empty_5x5", batch = "MachineTicker")
+    public static void idleMachineWakesUpOnNeighbourChangeTest(GameTestHelper helper) {
+        BlockPos busPos = new BlockPos(2, 1, 2);
+        helper.setBlock(busPos, GTMachines.ITEM_EXPORT_BUS[GTValues.LV].getBlock());
+        ItemBusPartMachine bus = (ItemBusPartMachine) getMetaMachine(helper.getBlockEntity(busPos));
+        bus.getInventory().setStackInSlot(0, new ItemStack(Blocks.STONE, 16));
+        BlockPos chestPos = busPos.relative(bus.getFrontFacing());
+
+        helper.startSequence()
+                .thenWaitUntil(() -> helper.assertTrue(bus.isTickerDetached(),
+                        "Bus without a neighbour to export to wasn't detached from the tickers"))
+                .thenExecute(() -> {
+                    helper.setBlock(chestPos, Blocks.CHEST);
+                    helper.assertFalse(bus.isTickerDetached(),
+                            "Bus wasn't attached to the tickers when a neighbour was placed");
+                })
+                .thenWaitUntil(() -> helper.assertTrue(
+                        helper.getBlockEntity(chestPos) instanceof ChestBlockEntity chest &&
+                                TestUtils.isItemStackEqual(chest.getItem(0), new ItemStack(Blocks.STONE, 16)),
+                        "Bus didn't export its items after it was attached"))
+                .thenWaitUntil(() -> helper.assertTrue(bus.isTickerDetached(),
+                        "Bus wasn't detached again after it exported everything"))
+                .thenSucceed();
+    }
+}
@@ -152,6 +152,36 @@ public class RecipeLogicTest {
         helper.succeed();
     }
 
+    // Power failures put the recipe logic to sleep, resetting it has to wake it up again
+    @GameTest(template = "lcr_input_separation", batch = "RecipeLogic")
+    public static void recipeLogicWakesUpAfterPowerFailureTest(GameTestHelper helper) {
+        RecipeLogicTest.BusHolder busHolder = getBussesAndForm(helper);
+        WorkableMultiblockMachine controller = busHolder.controller;
+        RecipeLogic recipeLogic = controller.getRecipeLogic();
+        recipeLogic.updateTickSubscription();
+        long nextTick = helper.getLevel().getGameTime() + 1;
+
+        // the back-off after 5 failed attempts
+        controller.sleepServerTick(recipeLogic.getSubscription(), 5 * 60);
+        helper.assertTrue(recipeLogic.getSubscription().isSleeping(nextTick),
+                "Recipe logic didn't sleep through the power failure back-off");
+        recipeLogic.resetRecipeLogic();
+        helper.assertFalse(recipeLogic.getSubscription().isSleeping(nextTick),
+                "Recipe logic kept sleeping after it was reset");
+
+        controller.sleepServerTick(recipeLogic.getSubscription(), 5 * 60);
+        recipeLogic.markLastRecipeDirty();
+        helper.assertFalse(recipeLogic.getSubscription().isSleeping(nextTick),
+                "Recipe logic kept sleeping after its recipe was marked dirty");
+
+        // and it picks up work right away
+        busHolder.inputBus1.getInventory().setStackInSlot(0, new ItemStack(Blocks.COBBLESTONE));
+        helper.succeedWhen(() -> helper.assertTrue(
+                TestUtils.isItemStackEqual(busHolder.outputBus1.getInventory().getStackInSlot(0),
+                        new ItemStack(Blocks.STONE)),
+                "Recipe logic didn't run a recipe after it was woken up"));
+    }
+
     // spotless:off
     // Blocked by LDLib sync issues
     /*
@@ -229,4 +229,32 @@ public class GTRecipeLookupTest {
         }
         helper.succeed();
     }
+
+    // The compiled lookup should find the same recipes as the branch tree walk
+    @GameTest(template = "empty", batch = "GTRecipeLookup")
+    public static void compiledRecipeLookupMatchesTreeTest(GameTestHelper helper) {
+        CompiledRecipeLookup compiled = CompiledRecipeLookup.compile(LOOKUP.getLookup());
+        List<List<List<AbstractMapIngredient>>> searches = List.of(
+                createIngredients(new ItemStack(Items.COBBLESTONE, 1)),
+                createIngredients(new ItemStack(Items.REDSTONE_TORCH, 1)),
+                createIngredients(new ItemStack(Items.REDSTONE_TORCH, 1), new ItemStack(Items.COBBLESTONE, 1)),
+                createIngredients(new ItemStack(Items.CHERRY_WOOD, 8)),
+                createIngredients(GTMaterials.Helium.getFluid(4)),
+                createIngredients(
+                        createIngredients(new ItemStack(Items.BLUE_WOOL, 4)),
+                        createIngredients(GTMaterials.Iron.getFluid(4))),
+                createIngredients(
+                        createIngredients(GTMaterials.Iron.getFluid(4)),
+                        createIngredients(new ItemStack(Items.BLUE_WOOL, 4))));
+        for (var ingredients : searches) {
+            for (Predicate<GTRecipe> canHandle : List.of(ALWAYS_TRUE, ALWAYS_FALSE)) {
+                GTRecipe expected = LOOKUP.recurseIngredientTreeFindRecipe(ingredients, LOOKUP.getLookup(),
+                        canHandle);
+                GTRecipe actual = compiled.find(ingredients, canHandle);
+                helper.assertTrue(expected == actual,
+                        "Compiled lookup found " + actual + ", but the tree walk found " + expected);
+            }
+        }
+        helper.succeed();
+    }
 }
@@ -0,0 +1,77 @@
+package com.gregtechceu.gtceu.api.recipe.lookup;
+
+import com.gregtechceu.gtceu.GTCEu;
+import com.gregtechceu.gtceu.api.recipe.GTRecipe;
+import com.gregtechceu.gtceu.api.recipe.GTRecipeType;
+import com.gregtechceu.gtceu.common.data.GTRecipeTypes;
+import com.gregtechceu.gtceu.gametest.util.TestUtils;
+
+import net.minecraft.gametest.framework.BeforeBatch;
+import net.minecraft.gametest.framework.GameTest;
+import net.minecraft.gametest.framework.GameTestHelper;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.item.Items;
+import net.minecraft.world.item.crafting.Recipe;
+import net.minecraft.world.item.crafting.RecipeType;
+import net.minecraftforge.gametest.GameTestHolder;
+import net.minecraftforge.gametest.PrefixGameTestTemplate;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+@PrefixGameTestTemplate(false)
+@GameTestHolder(GTCEu.MOD_ID)
+public class RecipeManagerHandlerTest {
+
+    private static GTRecipeType RECIPE_TYPE;
+    private static GTRecipe GENERATED, DISABLED, OVERRIDDEN;
+
+    @BeforeBatch(batch = "RecipeManagerHandler")
+    public static void prepare(ServerLevel level) {
+        RECIPE_TYPE = TestUtils.createRecipeType("recipe_manager_handler", GTRecipeTypes.CHEMICAL_RECIPES);
+        GENERATED = RECIPE_TYPE.recipeBuilder(GTCEu.id("generated"))
+                .inputItems(Items.COBBLESTONE, 1)
+                .outputItems(Items.STONE, 1)
+                .buildRawRecipe();
+        DISABLED = RECIPE_TYPE.recipeBuilder(GTCEu.id("disabled"))
+                .inputItems(Items.STONE, 1)
+                .outputItems(Items.GRAVEL, 1)
+                .buildRawRecipe();
+        OVERRIDDEN = RECIPE_TYPE.recipeBuilder(GTCEu.id("overridden"))
+                .inputItems(Items.GRAVEL, 1)
+                .outputItems(Items.SAND, 1)
+                .buildRawRecipe();
+    }
+
+    @GameTest(template = "empty", batch = "RecipeManagerHandler")
+    public static void dataPacksOverrideDirectRecipesTest(GameTestHelper helper) {
+        GTRecipe override = RECIPE_TYPE.recipeBuilder(GTCEu.id("overridden"))
+                .inputItems(Items.GRAVEL, 1)
+                .outputItems(Items.FLINT, 1)
+                .buildRawRecipe();
+        Map<ResourceLocation, Recipe<?>> byName = new LinkedHashMap<>();
+        byName.put(override.getId(), override);
+        Map<RecipeType<?>, Map<ResourceLocation, Recipe<?>>> recipes = new LinkedHashMap<>();
+        recipes.put(RECIPE_TYPE, Map.of(override.getId(), override));
+        // a data pack defines the disabled recipe with conditions that are false, so it wasn't loaded
+        Set<ResourceLocation> packRecipeIds = Set.of(DISABLED.getId(), override.getId());
+
+        RecipeManagerHandler.addDirectRecipes(List.of(GENERATED, DISABLED, OVERRIDDEN), packRecipeIds, byName,
+                recipes);
+
+        helper.assertTrue(byName.get(GENERATED.getId()) == GENERATED, "Direct recipe wasn't added");
+        helper.assertTrue(recipes.get(RECIPE_TYPE).get(GENERATED.getId()) == GENERATED,
+                "Direct recipe wasn't added to its type");
+        helper.assertFalse(byName.containsKey(DISABLED.getId()),
+                "Direct recipe was added although a data pack disabled it");
+        helper.assertFalse(recipes.get(RECIPE_TYPE).containsKey(DISABLED.getId()),
+                "Direct recipe was added to its type although a data pack disabled it");
+        helper.assertTrue(byName.get(OVERRIDDEN.getId()) == override, "Data pack recipe was replaced");
+        helper.assertTrue(recipes.get(RECIPE_TYPE).get(OVERRIDDEN.getId()) == override,
+                "Data pack recipe was replaced in its type");
+        helper.succeed();
+    }
+}
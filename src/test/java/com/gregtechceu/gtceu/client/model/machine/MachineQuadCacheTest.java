@@ -0,0 +1,72 @@
+package com.gregtechceu.gtceu.client.model.machine;
+
+import com.gregtechceu.gtceu.GTCEu;
+import com.gregtechceu.gtceu.common.data.GTMachines;
+
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.Direction;
+import net.minecraft.gametest.framework.GameTest;
+import net.minecraft.gametest.framework.GameTestHelper;
+import net.minecraft.world.level.block.Blocks;
+import net.minecraftforge.gametest.GameTestHolder;
+import net.minecraftforge.gametest.PrefixGameTestTemplate;
+
+@PrefixGameTestTemplate(false)
+@GameTestHolder(GTCEu.MOD_ID)
+public class MachineQuadCacheTest {
+
+    private static final BlockPos MACHINE_POS = new BlockPos(2, 2, 2);
+
+    private static MachineQuadCache.Key makeKey(GameTestHelper helper, MachineRenderState renderState) {
+        // the render type is only compared by identity, so the key can be made without one on the server
+        return MachineQuadCache.Key.of(renderState, helper.getBlockState(MACHINE_POS), Direction.UP, null,
+                helper.getLevel(), helper.absolutePos(MACHINE_POS));
+    }
+
+    private static void assertKeyAfterPlacing(GameTestHelper helper, BlockPos pos, boolean same, String message) {
+        MachineRenderState renderState = GTMachines.HULL[1].defaultRenderState();
+        MachineQuadCache.Key original = makeKey(helper, renderState);
+        helper.setBlock(pos, Blocks.DIRT);
+        MachineQuadCache.Key changed = makeKey(helper, renderState);
+        helper.setBlock(pos, Blocks.AIR);
+
+        helper.assertTrue(original.equals(changed) == same, message);
+        if (same) {
+            helper.assertTrue(original.hashCode() == changed.hashCode(), "Equal keys have different hash codes");
+        }
+    }
+
+    @GameTest(template = "empty_5x5", batch = "MachineQuadCache")
+    public static void keyDependsOnConnectedNeighboursTest(GameTestHelper helper) {
+        helper.setBlock(MACHINE_POS, Blocks.STONE);
+
+        assertKeyAfterPlacing(helper, MACHINE_POS.east(), false, "Key ignored a block next to the side");
+        assertKeyAfterPlacing(helper, MACHINE_POS.north().west(), false, "Key ignored a block diagonal to the side");
+        assertKeyAfterPlacing(helper, MACHINE_POS.above(), false, "Key ignored the block in front of the side");
+        assertKeyAfterPlacing(helper, MACHINE_POS.above().south().east(), false,
+                "Key ignored a block diagonally in front of the side");
+        assertKeyAfterPlacing(helper, MACHINE_POS.below(), true, "Key depends on the block behind the side");
+        assertKeyAfterPlacing(helper, MACHINE_POS.east(2), true, "Key depends on a block two blocks away");
+        assertKeyAfterPlacing(helper, MACHINE_POS.above(2), true,
+                "Key depends on a block two blocks in front of the side");
+        helper.succeed();
+    }
+
+    @GameTest(template = "empty_5x5", batch = "MachineQuadCache")
+    public static void keyDependsOnStatesTest(GameTestHelper helper) {
+        helper.setBlock(MACHINE_POS, Blocks.STONE);
+        MachineRenderState renderState = GTMachines.HULL[1].defaultRenderState();
+        MachineQuadCache.Key key = makeKey(helper, renderState);
+
+        helper.assertTrue(key.equals(makeKey(helper, renderState)), "Keys of the same machine aren't equal");
+        helper.assertFalse(key.equals(makeKey(helper, GTMachines.HULL[2].defaultRenderState())),
+                "Keys of different render states are equal");
+        helper.assertFalse(key.equals(MachineQuadCache.Key.of(renderState, helper.getBlockState(MACHINE_POS),
+                Direction.DOWN, null, helper.getLevel(), helper.absolutePos(MACHINE_POS))),
+                "Keys of different sides are equal");
+
+        helper.setBlock(MACHINE_POS, Blocks.COBBLESTONE);
+        helper.assertFalse(key.equals(makeKey(helper, renderState)), "Keys of different block states are equal");
+        helper.succeed();
+    }
+}
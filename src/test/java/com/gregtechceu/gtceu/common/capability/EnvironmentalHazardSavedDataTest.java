@@ -0,0 +1,119 @@
+package com.gregtechceu.gtceu.common.capability;
+
+import com.gregtechceu.gtceu.GTCEu;
+import com.gregtechceu.gtceu.api.data.chemical.material.properties.HazardProperty;
+import com.gregtechceu.gtceu.api.data.medicalcondition.MedicalCondition;
+import com.gregtechceu.gtceu.common.capability.EnvironmentalHazardSavedData.HazardZone;
+import com.gregtechceu.gtceu.common.capability.EnvironmentalHazardSavedData.ZoneChange;
+import com.gregtechceu.gtceu.common.data.GTMedicalConditions;
+
+import net.minecraft.gametest.framework.GameTest;
+import net.minecraft.gametest.framework.GameTestHelper;
+import net.minecraft.world.entity.player.Player;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraftforge.gametest.GameTestHolder;
+import net.minecraftforge.gametest.PrefixGameTestTemplate;
+
+import java.util.List;
+
+@PrefixGameTestTemplate(false)
+@GameTestHolder(GTCEu.MOD_ID)
+public class EnvironmentalHazardSavedDataTest {
+
+    private static void putZone(EnvironmentalHazardSavedData data, ChunkPos pos, float strength,
+                                MedicalCondition condition) {
+        data.getHazardZones().put(pos, new HazardZone(pos.getMiddleBlockPosition(64), strength, true,
+                HazardProperty.HazardTrigger.INHALATION, condition));
+    }
+
+    private static EnvironmentalHazardSavedData makeZones(GameTestHelper helper) {
+        var data = new EnvironmentalHazardSavedData(helper.getLevel());
+        // spreads for 7 ticks, then stops just under the spread threshold
+        putZone(data, new ChunkPos(0, 0), 1500, GTMedicalConditions.CARBON_MONOXIDE_POISONING);
+        // keeps spreading for the whole update
+        putZone(data, new ChunkPos(10, 10), 3000, GTMedicalConditions.CARBON_MONOXIDE_POISONING);
+        // an existing neighbour of the same condition
+        putZone(data, new ChunkPos(1, 0), 50, GTMedicalConditions.CARBON_MONOXIDE_POISONING);
+        // an existing neighbour of another condition, which is replaced
+        putZone(data, new ChunkPos(0, 1), 50, GTMedicalConditions.CHEMICAL_BURNS);
+        // too weak to spread
+        putZone(data, new ChunkPos(-10, -10), 900, GTMedicalConditions.CARBON_MONOXIDE_POISONING);
+        return data;
+    }
+
+    @GameTest(template = "empty_5x5", batch = "hazardTests")
+    public static void batchedUpdateMatchesSingleTicksTest(GameTestHelper helper) {
+        var singleTicks = makeZones(helper);
+        for (int i = 0; i < EnvironmentalHazardSavedData.UPDATE_INTERVAL; i++) {
+            singleTicks.updateZones(1);
+        }
+        var batched = makeZones(helper);
+        batched.updateZones(EnvironmentalHazardSavedData.UPDATE_INTERVAL);
+
+        helper.assertTrue(singleTicks.getHazardZones().keySet().equals(batched.getHazardZones().keySet()),
+                "Batched update changed the zones from " + singleTicks.getHazardZones().keySet() + " to " +
+                        batched.getHazardZones().keySet());
+        for (var entry : singleTicks.getHazardZones().entrySet()) {
+            HazardZone expected = entry.getValue();
+            HazardZone actual = batched.getHazardZones().get(entry.getKey());
+            helper.assertTrue(Math.abs(expected.strength() - actual.strength()) < 0.01f,
+                    "Zone at " + entry.getKey() + " has strength " + actual.strength() + " instead of " +
+                            expected.strength());
+            helper.assertTrue(expected.condition() == actual.condition(),
+                    "Zone at " + entry.getKey() + " has the wrong condition");
+        }
+        helper.assertTrue(batched.getZoneByPos(new ChunkPos(0, 0)).strength() > 900,
+                "Zone spread further than the spread threshold");
+        helper.succeed();
+    }
+
+    @GameTest(template = "empty_5x5", batch = "hazardTests")
+    public static void coalescesChangedZonesTest(GameTestHelper helper) {
+        var data = new EnvironmentalHazardSavedData(helper.getLevel());
+        // both spread into the chunk between them
+        putZone(data, new ChunkPos(0, 0), 1500, GTMedicalConditions.CARBON_MONOXIDE_POISONING);
+        putZone(data, new ChunkPos(2, 0), 1500, GTMedicalConditions.CARBON_MONOXIDE_POISONING);
+        putZone(data, new ChunkPos(0, 1), 50, GTMedicalConditions.CARBON_MONOXIDE_POISONING);
+        putZone(data, new ChunkPos(20, 20), 0.001f, GTMedicalConditions.CARBON_MONOXIDE_POISONING);
+        data.updateZones(EnvironmentalHazardSavedData.UPDATE_INTERVAL);
+
+        var changes = data.getChangedZones();
+        helper.assertTrue(changes.get(new ChunkPos(1, 0)) == ZoneChange.ADDED,
+                "Zone created by two spreads wasn't synced as added");
+        helper.assertTrue(changes.get(new ChunkPos(0, 1)) == ZoneChange.STRENGTH,
+                "Existing neighbour wasn't synced as changed strength");
+        helper.assertTrue(changes.get(new ChunkPos(20, 20)) == ZoneChange.REMOVED,
+                "Decayed zone wasn't synced as removed");
+        helper.assertTrue(!changes.containsKey(new ChunkPos(0, 0)),
+                "Spreading zone was synced although only its strength changed");
+
+        ChunkPos pos = new ChunkPos(40, 40);
+        data.markChanged(pos, ZoneChange.ADDED);
+        data.markChanged(pos, ZoneChange.STRENGTH);
+        helper.assertTrue(changes.get(pos) == ZoneChange.ADDED, "Added zone was downgraded to a strength sync");
+        data.markRemoved(pos);
+        helper.assertTrue(changes.get(pos) == ZoneChange.REMOVED, "Removed zone wasn't synced as removed");
+        data.markChanged(pos, ZoneChange.STRENGTH);
+        helper.assertTrue(changes.get(pos) == ZoneChange.ADDED, "Zone re-added after removal wasn't sent in full");
+        helper.succeed();
+    }
+
+    @GameTest(template = "empty_5x5", batch = "hazardTests")
+    public static void indexesPlayersByChunkTest(GameTestHelper helper) {
+        Player first = helper.makeMockPlayer();
+        first.setPos(5, 64, 5);
+        Player second = helper.makeMockPlayer();
+        second.setPos(15.9, 64, 0.5);
+        Player third = helper.makeMockPlayer();
+        third.setPos(-0.5, 64, 20);
+
+        var playersByChunk = EnvironmentalHazardSavedData.getPlayersByChunk(List.of(first, second, third));
+        helper.assertTrue(playersByChunk.size() == 2, "Players were indexed in " + playersByChunk.size() +
+                " chunks instead of 2");
+        helper.assertTrue(playersByChunk.get(ChunkPos.asLong(0, 0)).equals(List.of(first, second)),
+                "Players of chunk 0, 0 weren't indexed together");
+        helper.assertTrue(playersByChunk.get(ChunkPos.asLong(-1, 1)).equals(List.of(third)),
+                "Player at a negative coordinate was indexed in the wrong chunk");
+        helper.succeed();
+    }
+}
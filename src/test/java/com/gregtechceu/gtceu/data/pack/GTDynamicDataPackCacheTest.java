@@ -0,0 +1,153 @@
+package com.gregtechceu.gtceu.data.pack;
+
+import com.gregtechceu.gtceu.GTCEu;
+import com.gregtechceu.gtceu.api.data.chemical.material.ItemMaterialData;
+import com.gregtechceu.gtceu.api.data.chemical.material.stack.MaterialStack;
+import com.gregtechceu.gtceu.api.recipe.GTRecipe;
+import com.gregtechceu.gtceu.api.recipe.GTRecipeType;
+import com.gregtechceu.gtceu.common.data.GTRecipes;
+import com.gregtechceu.gtceu.config.ConfigHolder;
+
+import net.minecraft.gametest.framework.GameTest;
+import net.minecraft.gametest.framework.GameTestHelper;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.world.item.Item;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.item.Items;
+import net.minecraft.world.item.crafting.RecipeType;
+import net.minecraftforge.gametest.GameTestHolder;
+import net.minecraftforge.gametest.PrefixGameTestTemplate;
+import net.minecraftforge.registries.ForgeRegistries;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+
+@PrefixGameTestTemplate(false)
+@GameTestHolder(GTCEu.MOD_ID)
+public class GTDynamicDataPackCacheTest {
+
+    /**
+     * The data the generators leave behind, copied so it can be compared after it was loaded from the cache.
+     */
+    private record Snapshot(Map<ResourceLocation, ByteBuffer> contents,
+                            Map<Item, List<MaterialStack>> materialInfos,
+                            Map<ItemStack, List<ItemStack>> unresolvedInfos,
+                            Map<ResourceLocation, Map<String, Set<ResourceLocation>>> dataStickEntries) {
+
+        static Snapshot take() {
+            Map<ResourceLocation, ByteBuffer> contents = new HashMap<>();
+            GTDynamicDataPack.forEachResource((location, supplier) -> {
+                try (InputStream stream = supplier.get()) {
+                    contents.put(location, ByteBuffer.wrap(stream.readAllBytes()));
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+
+            Map<Item, List<MaterialStack>> materialInfos = new HashMap<>();
+            ItemMaterialData.ITEM_MATERIAL_INFO.forEach((item, info) -> materialInfos.put(item,
+                    List.copyOf(info.getMaterials())));
+
+            Map<ItemStack, List<ItemStack>> unresolvedInfos = new LinkedHashMap<>(
+                    ItemMaterialData.UNRESOLVED_ITEM_MATERIAL_INFO);
+
+            Map<ResourceLocation, Map<String, Set<ResourceLocation>>> dataStickEntries = new HashMap<>();
+            for (GTRecipeType type : getRecipeTypes()) {
+                type.getDataStickEntries().forEach((researchId, recipes) -> {
+                    Set<ResourceLocation> ids = new HashSet<>();
+                    for (GTRecipe recipe : recipes) {
+                        ids.add(recipe.getId());
+                    }
+                    dataStickEntries.computeIfAbsent(type.registryName, t -> new HashMap<>()).put(researchId, ids);
+                });
+            }
+            return new Snapshot(contents, materialInfos, unresolvedInfos, dataStickEntries);
+        }
+    }
+
+    private static List<GTRecipeType> getRecipeTypes() {
+        List<GTRecipeType> types = new ArrayList<>();
+        for (RecipeType<?> recipeType : ForgeRegistries.RECIPE_TYPES) {
+            if (recipeType instanceof GTRecipeType gtRecipeType) {
+                types.add(gtRecipeType);
+            }
+        }
+        return types;
+    }
+
+    private static void clearGeneratedData() {
+        GTDynamicDataPack.clearServer();
+        ItemMaterialData.ITEM_MATERIAL_INFO.clear();
+        ItemMaterialData.UNRESOLVED_ITEM_MATERIAL_INFO.clear();
+        for (GTRecipeType type : getRecipeTypes()) {
+            for (var entry : new ArrayList<>(type.getDataStickEntries().entrySet())) {
+                for (GTRecipe recipe : new ArrayList<>(entry.getValue())) {
+                    type.removeDataStickEntry(entry.getKey(), recipe);
+                }
+            }
+        }
+    }
+
+    // item stacks don't implement equals, so they are compared by their tags
+    private static List<String> describeStacks(Map<ItemStack, List<ItemStack>> infos) {
+        List<String> described = new ArrayList<>();
+        infos.forEach((output, inputs) -> described.add(output.save(new CompoundTag()) + "=" +
+                inputs.stream().map(input -> input.save(new CompoundTag()).toString()).toList()));
+        Collections.sort(described);
+        return described;
+    }
+
+    @GameTest(template = "empty", batch = "GTDynamicDataPackCache", timeoutTicks = 1200)
+    public static void loadedCacheMatchesGenerationTest(GameTestHelper helper) {
+        boolean wasEnabled = ConfigHolder.INSTANCE.dev.cacheGeneratedRecipes;
+        boolean wasDumping = ConfigHolder.INSTANCE.dev.dumpRecipes;
+        Path file = GTCEu.getGameDir().resolve("gtceu/cache/dynamic_data_test.bin");
+        try {
+            Files.deleteIfExists(file);
+            ConfigHolder.INSTANCE.dev.cacheGeneratedRecipes = true;
+            ConfigHolder.INSTANCE.dev.dumpRecipes = false;
+
+            clearGeneratedData();
+            GTDynamicDataPackCache.loadOrGenerate(file, () -> {
+                GTRecipes.recipeAddition(GTDynamicDataPack::addRecipe);
+                // as left behind when KubeJS resolves the material infos after its recipe event
+                ItemMaterialData.UNRESOLVED_ITEM_MATERIAL_INFO.put(new ItemStack(Items.STICK, 4),
+                        List.of(new ItemStack(Items.OAK_PLANKS, 2)));
+            });
+            helper.assertTrue(Files.isRegularFile(file), "Generated data wasn't cached");
+            Snapshot generated = Snapshot.take();
+
+            clearGeneratedData();
+            boolean[] regenerated = { false };
+            GTDynamicDataPackCache.loadOrGenerate(file, () -> regenerated[0] = true);
+            helper.assertFalse(regenerated[0], "Data was generated again instead of loaded from the cache");
+            Snapshot loaded = Snapshot.take();
+
+            helper.assertFalse(generated.contents().isEmpty(), "Nothing was generated into the pack");
+            helper.assertTrue(loaded.contents().equals(generated.contents()),
+                    "Loaded pack has " + loaded.contents().size() + " resources instead of " +
+                            generated.contents().size() + ", or different contents");
+            helper.assertTrue(loaded.materialInfos().equals(generated.materialInfos()),
+                    "Loaded material infos differ from the generated ones");
+            helper.assertTrue(describeStacks(loaded.unresolvedInfos())
+                    .equals(describeStacks(generated.unresolvedInfos())),
+                    "Loaded unresolved material infos differ from the generated ones");
+            helper.assertTrue(loaded.dataStickEntries().equals(generated.dataStickEntries()),
+                    "Loaded data stick entries differ from the generated ones");
+        } catch (IOException e) {
+            helper.fail("Couldn't access the cache file: " + e);
+        } finally {
+            ItemMaterialData.UNRESOLVED_ITEM_MATERIAL_INFO.clear();
+            ConfigHolder.INSTANCE.dev.cacheGeneratedRecipes = wasEnabled;
+            ConfigHolder.INSTANCE.dev.dumpRecipes = wasDumping;
+            file.toFile().delete();
+        }
+        helper.succeed();
+    }
+}
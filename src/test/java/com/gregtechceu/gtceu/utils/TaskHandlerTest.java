@@ -0,0 +1,141 @@
+package com.gregtechceu.gtceu.utils;
+
+import com.gregtechceu.gtceu.GTCEu;
+
+import net.minecraft.gametest.framework.GameTest;
+import net.minecraft.gametest.framework.GameTestHelper;
+import net.minecraftforge.gametest.GameTestHolder;
+import net.minecraftforge.gametest.PrefixGameTestTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+@PrefixGameTestTemplate(false)
+@GameTestHolder(GTCEu.MOD_ID)
+public class TaskHandlerTest {
+
+    private static final long START_TIME = 1000;
+    private static final int LATE_ENQUEUE_TICK = 10;
+    private static final int[] DELAYS = { -1, 0, 1, 2, TaskHandler.WHEEL_SIZE - 1, TaskHandler.WHEEL_SIZE,
+            TaskHandler.WHEEL_SIZE + 1, TaskHandler.WHEEL_SIZE * 2 + 5 };
+    private static final int[] NESTED_DELAYS = { 0, 1, TaskHandler.WHEEL_SIZE + 3 };
+    private static final int TICKS = TaskHandler.WHEEL_SIZE * 3;
+
+    private interface Scheduler {
+
+        void enqueue(Runnable task, int delay);
+    }
+
+    /**
+     * The old task handler, which counted every task's delay down by one each tick.
+     */
+    private static class CountdownScheduler implements Scheduler {
+
+        private final List<Entry> tasks = new ArrayList<>();
+        private final List<Entry> waitToAdd = new ArrayList<>();
+
+        @Override
+        public void enqueue(Runnable task, int delay) {
+            waitToAdd.add(new Entry(task, delay));
+        }
+
+        public void tick() {
+            tasks.addAll(waitToAdd);
+            waitToAdd.clear();
+            for (var iter = tasks.iterator(); iter.hasNext();) {
+                var task = iter.next();
+                if (task.delay <= 0) {
+                    task.runnable.run();
+                    iter.remove();
+                } else {
+                    task.delay--;
+                }
+            }
+        }
+
+        private static class Entry {
+
+            final Runnable runnable;
+            int delay;
+
+            Entry(Runnable runnable, int delay) {
+                this.runnable = runnable;
+                this.delay = delay;
+            }
+        }
+    }
+
+    /**
+     * Enqueues tasks which record the game time they ran at, including a task which enqueues more tasks while it
+     * runs.
+     */
+    private static void enqueueTasks(Scheduler scheduler, long[] gameTime, Map<String, Long> runs, String prefix) {
+        for (int delay : DELAYS) {
+            String name = prefix + "delay " + delay;
+            scheduler.enqueue(() -> runs.put(name, gameTime[0]), delay);
+        }
+        scheduler.enqueue(() -> {
+            runs.put(prefix + "outer", gameTime[0]);
+            for (int delay : NESTED_DELAYS) {
+                String name = prefix + "nested delay " + delay;
+                scheduler.enqueue(() -> runs.put(name, gameTime[0]), delay);
+            }
+        }, 3);
+    }
+
+    @GameTest(template = "empty", batch = "TaskHandler")
+    public static void matchesCountdownTest(GameTestHelper helper) {
+        long[] gameTime = { START_TIME };
+        Map<String, Long> expected = new TreeMap<>();
+        var countdown = new CountdownScheduler();
+        enqueueTasks(countdown, gameTime, expected, "");
+        Map<String, Long> actual = new TreeMap<>();
+        var handler = new TaskHandler();
+        enqueueTasks(handler::enqueue, gameTime, actual, "");
+
+        for (int tick = 0; tick < TICKS; tick++) {
+            if (tick == LATE_ENQUEUE_TICK) {
+                enqueueTasks(countdown, gameTime, expected, "late ");
+                enqueueTasks(handler::enqueue, gameTime, actual, "late ");
+            }
+            gameTime[0] = START_TIME + tick;
+            countdown.tick();
+            handler.tick(gameTime[0]);
+        }
+
+        helper.assertTrue(expected.size() == (DELAYS.length + 1 + NESTED_DELAYS.length) * 2,
+                "Countdown didn't run every task");
+        helper.assertTrue(actual.equals(expected), "Tasks ran at " + actual + " instead of " + expected);
+        helper.assertTrue(handler.getMetrics().pending() == 0, "Tasks are still pending after they all ran");
+        helper.succeed();
+    }
+
+    @GameTest(template = "empty", batch = "TaskHandler")
+    public static void runsAfterDelayTest(GameTestHelper helper) {
+        long[] gameTime = { START_TIME };
+        Map<String, Long> runs = new TreeMap<>();
+        var handler = new TaskHandler();
+        enqueueTasks(handler::enqueue, gameTime, runs, "");
+        for (int tick = 0; tick < TICKS; tick++) {
+            gameTime[0] = START_TIME + tick;
+            handler.tick(gameTime[0]);
+        }
+
+        helper.assertTrue(runs.get("delay -1") == START_TIME, "Task with a negative delay didn't run immediately");
+        helper.assertTrue(runs.get("delay 0") == START_TIME, "Task without a delay didn't run immediately");
+        helper.assertTrue(runs.get("delay 1") == START_TIME + 1, "Task with a delay of 1 didn't run on the next tick");
+        helper.assertTrue(runs.get("delay " + TaskHandler.WHEEL_SIZE) == START_TIME + TaskHandler.WHEEL_SIZE,
+                "Task with a delay of a whole revolution ran at " + runs.get("delay " + TaskHandler.WHEEL_SIZE));
+        int longDelay = TaskHandler.WHEEL_SIZE * 2 + 5;
+        helper.assertTrue(runs.get("delay " + longDelay) == START_TIME + longDelay,
+                "Task with a delay of more than one revolution ran at " + runs.get("delay " + longDelay));
+        // tasks enqueued while running are seen on the next tick
+        helper.assertTrue(runs.get("nested delay 0") == START_TIME + 4,
+                "Task enqueued while running without a delay ran at " + runs.get("nested delay 0"));
+        helper.assertTrue(runs.get("nested delay 1") == START_TIME + 5,
+                "Task enqueued while running with a delay of 1 ran at " + runs.get("nested delay 1"));
+        helper.succeed();
+    }
+}